@@ -0,0 +1,116 @@
+package io.github.vennarshulytz.jsonviewext.benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 带预算检查的基准入口：以 -prof gc 运行 {@link FilteredSerializationBenchmark}，
+ * 将每次操作的分配字节数和相对手写 VO 的耗时倍数与 allocation-budgets.properties 比较，超出预算时以非 0 状态退出
+ * <p>
+ * 命令行参数与 JMH 一致，可用于缩短运行时间，如 {@code -f 1 -wi 3 -i 3}
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class AllocationBudgetRunner {
+
+    private static final String BUDGETS = "/allocation-budgets.properties";
+    private static final String BASELINE = "handWrittenVo";
+
+    private AllocationBudgetRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(FilteredSerializationBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        List<String> violations = check(results, loadBudgets());
+        if (violations.isEmpty()) {
+            System.out.println("All benchmarks are within budget");
+            return;
+        }
+        System.err.println("Benchmark budget exceeded:");
+        for (String violation : violations) {
+            System.err.println("  " + violation);
+        }
+        System.exit(1);
+    }
+
+    static List<String> check(Collection<RunResult> results, Properties budgets) {
+        Map<String, Double> scores = new HashMap<>();
+        for (RunResult result : results) {
+            scores.put(key(result.getParams()), result.getPrimaryResult().getScore());
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String key = key(params);
+
+            String allocBudget = budgets.getProperty(key + ".alloc");
+            Result alloc = allocationResult(result);
+            if (allocBudget != null && alloc != null && alloc.getScore() > Double.parseDouble(allocBudget)) {
+                violations.add(String.format("%s allocates %.0f B/op, budget %s B/op", key, alloc.getScore(),
+                        allocBudget));
+            }
+
+            String ratioBudget = budgets.getProperty(key + ".ratio");
+            Double baseline = scores.get(BASELINE + "." + params.getParam("scenario"));
+            if (ratioBudget != null && baseline != null && baseline > 0) {
+                double ratio = result.getPrimaryResult().getScore() / baseline;
+                if (ratio > Double.parseDouble(ratioBudget)) {
+                    violations.add(String.format("%s takes %.2fx of %s, budget %sx", key, ratio, BASELINE,
+                            ratioBudget));
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * 预算键：基准方法名.场景，如 jsonViewExt.WIDE
+     */
+    private static String key(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        return benchmark.substring(benchmark.lastIndexOf('.') + 1) + "." + params.getParam("scenario");
+    }
+
+    /**
+     * JMH 1.35 起 GC 分析器的指标名不再带前缀 "·"
+     */
+    private static Result allocationResult(RunResult result) {
+        Map<String, Result> secondary = result.getSecondaryResults();
+        Result alloc = secondary.get("gc.alloc.rate.norm");
+        return alloc != null ? alloc : secondary.get("·gc.alloc.rate.norm");
+    }
+
+    private static Properties loadBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = AllocationBudgetRunner.class.getResourceAsStream(BUDGETS)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + BUDGETS);
+            }
+            budgets.load(in);
+        }
+        return budgets;
+    }
+}
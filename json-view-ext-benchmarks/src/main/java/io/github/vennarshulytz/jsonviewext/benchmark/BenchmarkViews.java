@@ -0,0 +1,67 @@
+package io.github.vennarshulytz.jsonviewext.benchmark;
+
+import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;
+import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;
+import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Company;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Node;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Order;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Person;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.WideBean;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.EmailType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.IdCardType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.PhoneType;
+
+/**
+ * 各场景的过滤规则，与接口方法一样以 @JsonViewExt 声明，由 FilterRuleRegistry 解析
+ * <p>
+ * {@link Summary} 是对照组 Jackson @JsonView 使用的视图
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class BenchmarkViews {
+
+    /**
+     * Jackson @JsonView 视图
+     */
+    public interface Summary {
+    }
+
+    private BenchmarkViews() {
+    }
+
+    @JsonViewExt(include = @JsonFilterExt(clazz = WideBean.class,
+            props = {"field01", "field02", "field03", "field05", "field08", "field13", "field21"}))
+    static void wide() {
+    }
+
+    @JsonViewExt(include = @JsonFilterExt(clazz = Node.class, props = {"id", "name", "child"}))
+    static void deep() {
+    }
+
+    @JsonViewExt(include = @JsonFilterExt(clazz = Order.class, props = {"id", "customer", "amount", "status"}))
+    static void list() {
+    }
+
+    @JsonViewExt(include = @JsonFilterExt(clazz = Person.class, props = {"id", "name", "phone", "email", "idCard"},
+            sensitives = {
+                    @Sensitive(type = PhoneType.class, props = "phone"),
+                    @Sensitive(type = EmailType.class, props = "email"),
+                    @Sensitive(type = IdCardType.class, props = "idCard")
+            }))
+    static void masking() {
+    }
+
+    @JsonViewExt(
+            include = {
+                    @JsonFilterExt(clazz = Company.class, props = {"name", "ceo", "employees", "departments"}),
+                    @JsonFilterExt(clazz = Company.Department.class, props = {"name", "manager"}),
+                    @JsonFilterExt(clazz = Person.class, field = "ceo", props = {"name", "phone"},
+                            sensitives = @Sensitive(props = "phone", keepPrefix = 3, keepSuffix = 2))
+            },
+            exclude = @JsonFilterExt(clazz = Person.class, props = {"idCard", "address"},
+                    sensitives = @Sensitive(type = PhoneType.class, props = "phone")))
+    static void mixed() {
+    }
+}
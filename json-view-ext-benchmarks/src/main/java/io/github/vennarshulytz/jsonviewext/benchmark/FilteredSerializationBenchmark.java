@@ -0,0 +1,124 @@
+package io.github.vennarshulytz.jsonviewext.benchmark;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
+import io.github.vennarshulytz.jsonviewext.core.JsonViewExtBeanSerializerModifier;
+import io.github.vennarshulytz.jsonviewext.core.JsonViewExtContextHolder;
+import io.github.vennarshulytz.jsonviewext.core.JsonViewExtModule;
+import io.github.vennarshulytz.jsonviewext.core.ViewWriterCache;
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 过滤序列化基准：同一份数据分别用普通 Jackson、Jackson @JsonView、手写 VO 和 JsonViewExt 输出
+ * <p>
+ * plainJackson 输出全部属性，作为上限参考；jacksonJsonView 不支持按路径区分的规则和脱敏，
+ * MASKING/MIXED 场景下输出的属性相同但不脱敏；handWrittenVo 的输出与 JsonViewExt 完全一致，
+ * 每次操作都包含实体到 VO 的转换
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FilteredSerializationBenchmark {
+
+    @Param({"WIDE", "DEEP", "LIST", "MASKING", "MIXED"})
+    public Scenario scenario;
+
+    private Object data;
+    private FilterContext context;
+
+    private ObjectMapper plainMapper;
+    private ObjectWriter jsonViewWriter;
+    private ObjectMapper filterMapper;
+    private ObjectWriter viewSpecializedWriter;
+
+    @Setup
+    public void setUp() throws IOException {
+        data = scenario.createData();
+        context = new FilterRuleRegistry().getOrCreateContext(scenario.viewMethod());
+
+        plainMapper = new ObjectMapper();
+        jsonViewWriter = new ObjectMapper()
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .writerWithView(BenchmarkViews.Summary.class);
+        filterMapper = new ObjectMapper().registerModule(new JsonViewExtModule());
+        viewSpecializedWriter = new ViewWriterCache(plainMapper, JsonViewExtModule::new)
+                .getWriter(context, data.getClass());
+
+        // 各实现的输出必须一致，否则比较没有意义
+        Object expected = plainMapper.readTree(handWrittenVo());
+        check("jsonViewExt", expected, plainMapper.readTree(jsonViewExt()));
+        check("jsonViewExtViewWriter", expected, plainMapper.readTree(jsonViewExtViewWriter()));
+    }
+
+    private static void check(String name, Object expected, Object actual) {
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException(name + " output differs from the hand-written VO:\n"
+                    + expected + "\n" + actual);
+        }
+    }
+
+    @Benchmark
+    public byte[] plainJackson() throws IOException {
+        return plainMapper.writeValueAsBytes(data);
+    }
+
+    @Benchmark
+    public byte[] jacksonJsonView() throws IOException {
+        return jsonViewWriter.writeValueAsBytes(data);
+    }
+
+    @Benchmark
+    public byte[] handWrittenVo() throws IOException {
+        return plainMapper.writeValueAsBytes(scenario.toVo(data));
+    }
+
+    /**
+     * 与 HttpMessageConverter 中的默认路径一致：通过 ThreadLocal 传递过滤上下文
+     */
+    @Benchmark
+    public byte[] jsonViewExt() throws IOException {
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            JsonViewExtBeanSerializerModifier.PathTracker.clear();
+            return filterMapper.writeValueAsBytes(data);
+        } finally {
+            JsonViewExtContextHolder.clear();
+            JsonViewExtBeanSerializerModifier.PathTracker.reset();
+        }
+    }
+
+    /**
+     * 开启 view-specialized-writers 时的路径：使用绑定了过滤上下文的 ObjectWriter
+     */
+    @Benchmark
+    public byte[] jsonViewExtViewWriter() throws IOException {
+        try {
+            JsonViewExtBeanSerializerModifier.PathTracker.clear();
+            return viewSpecializedWriter.writeValueAsBytes(data);
+        } finally {
+            JsonViewExtBeanSerializerModifier.PathTracker.reset();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.vennarshulytz.jsonviewext.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Company;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Node;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Order;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Person;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.WideBean;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.EmailType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.IdCardType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.MaskType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.PhoneType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 对照组：为每个场景手写的 VO 及转换代码，输出与 {@link BenchmarkViews} 中的规则一致
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+final class HandWrittenVos {
+
+    private static final SensitiveType PHONE = SensitiveHandler.getHandler(PhoneType.class);
+    private static final SensitiveType EMAIL = SensitiveHandler.getHandler(EmailType.class);
+    private static final SensitiveType ID_CARD = SensitiveHandler.getHandler(IdCardType.class);
+    private static final SensitiveType CEO_PHONE = MaskType.of(3, 2, '*', "");
+
+    private HandWrittenVos() {
+    }
+
+    static WideVo wide(WideBean bean) {
+        return new WideVo(bean);
+    }
+
+    static NodeVo deep(Node node) {
+        return node == null ? null : new NodeVo(node);
+    }
+
+    static List<OrderVo> list(List<Order> orders) {
+        List<OrderVo> vos = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            vos.add(new OrderVo(order));
+        }
+        return vos;
+    }
+
+    static List<MaskedPersonVo> masking(List<Person> people) {
+        List<MaskedPersonVo> vos = new ArrayList<>(people.size());
+        for (Person person : people) {
+            vos.add(new MaskedPersonVo(person));
+        }
+        return vos;
+    }
+
+    static CompanyVo mixed(Company company) {
+        return new CompanyVo(company);
+    }
+
+    public static final class WideVo {
+        public final String field01;
+        public final String field02;
+        public final long field03;
+        public final String field05;
+        public final String field08;
+        public final String field13;
+        public final long field21;
+
+        WideVo(WideBean bean) {
+            this.field01 = bean.getField01();
+            this.field02 = bean.getField02();
+            this.field03 = bean.getField03();
+            this.field05 = bean.getField05();
+            this.field08 = bean.getField08();
+            this.field13 = bean.getField13();
+            this.field21 = bean.getField21();
+        }
+    }
+
+    public static final class NodeVo {
+        public final long id;
+        public final String name;
+        /**
+         * 过滤输出不写入值为 null 的属性，保持一致
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public final NodeVo child;
+
+        NodeVo(Node node) {
+            this.id = node.getId();
+            this.name = node.getName();
+            this.child = deep(node.getChild());
+        }
+    }
+
+    public static final class OrderVo {
+        public final long id;
+        public final String customer;
+        public final BigDecimal amount;
+        public final String status;
+
+        OrderVo(Order order) {
+            this.id = order.getId();
+            this.customer = order.getCustomer();
+            this.amount = order.getAmount();
+            this.status = order.getStatus();
+        }
+    }
+
+    public static final class MaskedPersonVo {
+        public final long id;
+        public final String name;
+        public final String phone;
+        public final String email;
+        public final String idCard;
+
+        MaskedPersonVo(Person person) {
+            this.id = person.getId();
+            this.name = person.getName();
+            this.phone = PHONE.desensitize(person.getPhone());
+            this.email = EMAIL.desensitize(person.getEmail());
+            this.idCard = ID_CARD.desensitize(person.getIdCard());
+        }
+    }
+
+    public static final class CeoVo {
+        public final String name;
+        public final String phone;
+
+        CeoVo(Person person) {
+            this.name = person.getName();
+            this.phone = CEO_PHONE.desensitize(person.getPhone());
+        }
+    }
+
+    public static final class PersonVo {
+        public final long id;
+        public final String name;
+        public final String phone;
+        public final String email;
+
+        PersonVo(Person person) {
+            this.id = person.getId();
+            this.name = person.getName();
+            this.phone = PHONE.desensitize(person.getPhone());
+            this.email = person.getEmail();
+        }
+    }
+
+    public static final class DepartmentVo {
+        public final String name;
+        public final PersonVo manager;
+
+        DepartmentVo(Company.Department department) {
+            this.name = department.getName();
+            this.manager = new PersonVo(department.getManager());
+        }
+    }
+
+    public static final class CompanyVo {
+        public final String name;
+        public final CeoVo ceo;
+        public final List<PersonVo> employees;
+        public final List<DepartmentVo> departments;
+
+        CompanyVo(Company company) {
+            this.name = company.getName();
+            this.ceo = new CeoVo(company.getCeo());
+            this.employees = new ArrayList<>(company.getEmployees().size());
+            for (Person person : company.getEmployees()) {
+                employees.add(new PersonVo(person));
+            }
+            this.departments = new ArrayList<>(company.getDepartments().size());
+            for (Company.Department department : company.getDepartments()) {
+                departments.add(new DepartmentVo(department));
+            }
+        }
+    }
+}
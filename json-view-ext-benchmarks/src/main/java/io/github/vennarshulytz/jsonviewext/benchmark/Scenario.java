@@ -0,0 +1,115 @@
+package io.github.vennarshulytz.jsonviewext.benchmark;
+
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Company;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Node;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Order;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.Person;
+import io.github.vennarshulytz.jsonviewext.benchmark.model.WideBean;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 基准场景：构造数据、对应的 @JsonViewExt 规则以及手写 VO 转换
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public enum Scenario {
+
+    /**
+     * 24 个属性的宽对象，输出 7 个
+     */
+    WIDE {
+        @Override
+        Object createData() {
+            return new WideBean(42);
+        }
+
+        @Override
+        Object toVo(Object data) {
+            return HandWrittenVos.wide((WideBean) data);
+        }
+    },
+
+    /**
+     * 深度为 32 的链式对象图
+     */
+    DEEP {
+        @Override
+        Object createData() {
+            return Node.chain(32);
+        }
+
+        @Override
+        Object toVo(Object data) {
+            return HandWrittenVos.deep((Node) data);
+        }
+    },
+
+    /**
+     * 1000 个元素的列表
+     */
+    LIST {
+        @Override
+        Object createData() {
+            return Order.list(1000);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object toVo(Object data) {
+            return HandWrittenVos.list((List<Order>) data);
+        }
+    },
+
+    /**
+     * 500 个元素，每个元素 3 个脱敏属性
+     */
+    MASKING {
+        @Override
+        Object createData() {
+            return Person.list(500);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object toVo(Object data) {
+            return HandWrittenVos.masking((List<Person>) data);
+        }
+    },
+
+    /**
+     * 多类型 include/exclude 混用、按路径区分的规则与脱敏
+     */
+    MIXED {
+        @Override
+        Object createData() {
+            return new Company(200, 20);
+        }
+
+        @Override
+        Object toVo(Object data) {
+            return HandWrittenVos.mixed((Company) data);
+        }
+    };
+
+    abstract Object createData();
+
+    /**
+     * 手写 VO 转换，包含在每次操作内
+     */
+    abstract Object toVo(Object data);
+
+    /**
+     * 声明本场景规则的方法
+     */
+    Method viewMethod() {
+        try {
+            return BenchmarkViews.class.getDeclaredMethod(name().toLowerCase(Locale.ROOT));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.vennarshulytz.jsonviewext.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.vennarshulytz.jsonviewext.benchmark.BenchmarkViews;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 组合场景：多种类型、include/exclude 混用以及按路径区分的规则
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class Company {
+
+    @JsonView(BenchmarkViews.Summary.class)
+    private String name;
+    private String taxId;
+    @JsonView(BenchmarkViews.Summary.class)
+    private Person ceo;
+    @JsonView(BenchmarkViews.Summary.class)
+    private List<Person> employees;
+    @JsonView(BenchmarkViews.Summary.class)
+    private List<Department> departments;
+
+    public Company(int employeeCount, int departmentCount) {
+        this.name = "company";
+        this.taxId = "91110000000000000X";
+        this.ceo = new Person(0);
+        this.employees = Person.list(employeeCount);
+        this.departments = new ArrayList<>(departmentCount);
+        for (int i = 1; i <= departmentCount; i++) {
+            departments.add(new Department(i));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTaxId() {
+        return taxId;
+    }
+
+    public Person getCeo() {
+        return ceo;
+    }
+
+    public List<Person> getEmployees() {
+        return employees;
+    }
+
+    public List<Department> getDepartments() {
+        return departments;
+    }
+
+    public static class Department {
+
+        @JsonView(BenchmarkViews.Summary.class)
+        private String name;
+        private long budget;
+        @JsonView(BenchmarkViews.Summary.class)
+        private Person manager;
+
+        public Department(int id) {
+            this.name = "department-" + id;
+            this.budget = id * 100000L;
+            this.manager = new Person(1000 + id);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getBudget() {
+            return budget;
+        }
+
+        public Person getManager() {
+            return manager;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.vennarshulytz.jsonviewext.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.vennarshulytz.jsonviewext.benchmark.BenchmarkViews;
+
+/**
+ * 深层对象图中的节点，每个节点引用下一层节点
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class Node {
+
+    @JsonView(BenchmarkViews.Summary.class)
+    private long id;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String name;
+    private String description;
+    private String secret;
+    @JsonView(BenchmarkViews.Summary.class)
+    private Node child;
+
+    public Node(long id, Node child) {
+        this.id = id;
+        this.name = "node-" + id;
+        this.description = "description of node " + id;
+        this.secret = "secret-" + id;
+        this.child = child;
+    }
+
+    /**
+     * 构造指定深度的链式对象图
+     */
+    public static Node chain(int depth) {
+        Node node = null;
+        for (int i = depth; i > 0; i--) {
+            node = new Node(i, node);
+        }
+        return node;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public Node getChild() {
+        return child;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.vennarshulytz.jsonviewext.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.vennarshulytz.jsonviewext.benchmark.BenchmarkViews;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 列表场景中的订单
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class Order {
+
+    @JsonView(BenchmarkViews.Summary.class)
+    private long id;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String customer;
+    @JsonView(BenchmarkViews.Summary.class)
+    private BigDecimal amount;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String status;
+    private String remark;
+    private String internalNote;
+    private long createdAt;
+
+    public Order(long id) {
+        this.id = id;
+        this.customer = "customer-" + (id % 97);
+        this.amount = BigDecimal.valueOf(id * 37 % 10000, 2);
+        this.status = id % 3 == 0 ? "PAID" : "CREATED";
+        this.remark = "remark " + id;
+        this.internalNote = "internal note " + id;
+        this.createdAt = 1700000000000L + id;
+    }
+
+    public static List<Order> list(int size) {
+        List<Order> orders = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            orders.add(new Order(i));
+        }
+        return orders;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    public String getInternalNote() {
+        return internalNote;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+}
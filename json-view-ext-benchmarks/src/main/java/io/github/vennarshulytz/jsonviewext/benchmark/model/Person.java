@@ -0,0 +1,69 @@
+package io.github.vennarshulytz.jsonviewext.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.vennarshulytz.jsonviewext.benchmark.BenchmarkViews;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 包含敏感信息的人员
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class Person {
+
+    @JsonView(BenchmarkViews.Summary.class)
+    private long id;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String name;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String phone;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String email;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String idCard;
+    private String address;
+
+    public Person(long id) {
+        this.id = id;
+        this.name = "person-" + id;
+        this.phone = String.valueOf(13800000000L + id);
+        this.email = "user" + id + "@example.com";
+        this.idCard = String.valueOf(110101199001010000L + id);
+        this.address = "No." + id + " Example Road";
+    }
+
+    public static List<Person> list(int size) {
+        List<Person> people = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            people.add(new Person(i));
+        }
+        return people;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getIdCard() {
+        return idCard;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.vennarshulytz.jsonviewext.benchmark.model;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.github.vennarshulytz.jsonviewext.benchmark.BenchmarkViews;
+
+/**
+ * 宽对象：24 个属性，视图只输出其中 7 个
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class WideBean {
+
+    @JsonView(BenchmarkViews.Summary.class)
+    private String field01;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String field02;
+    @JsonView(BenchmarkViews.Summary.class)
+    private long field03;
+    private String field04;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String field05;
+    private long field06;
+    private String field07;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String field08;
+    private long field09;
+    private String field10;
+    private String field11;
+    private long field12;
+    @JsonView(BenchmarkViews.Summary.class)
+    private String field13;
+    private String field14;
+    private long field15;
+    private String field16;
+    private String field17;
+    private long field18;
+    private String field19;
+    private String field20;
+    @JsonView(BenchmarkViews.Summary.class)
+    private long field21;
+    private String field22;
+    private String field23;
+    private long field24;
+
+    public WideBean(int seed) {
+        this.field01 = "field01-" + seed;
+        this.field02 = "field02-" + seed;
+        this.field03 = seed * 3L;
+        this.field04 = "field04-" + seed;
+        this.field05 = "field05-" + seed;
+        this.field06 = seed * 6L;
+        this.field07 = "field07-" + seed;
+        this.field08 = "field08-" + seed;
+        this.field09 = seed * 9L;
+        this.field10 = "field10-" + seed;
+        this.field11 = "field11-" + seed;
+        this.field12 = seed * 12L;
+        this.field13 = "field13-" + seed;
+        this.field14 = "field14-" + seed;
+        this.field15 = seed * 15L;
+        this.field16 = "field16-" + seed;
+        this.field17 = "field17-" + seed;
+        this.field18 = seed * 18L;
+        this.field19 = "field19-" + seed;
+        this.field20 = "field20-" + seed;
+        this.field21 = seed * 21L;
+        this.field22 = "field22-" + seed;
+        this.field23 = "field23-" + seed;
+        this.field24 = seed * 24L;
+    }
+
+    public String getField01() {
+        return field01;
+    }
+
+    public String getField02() {
+        return field02;
+    }
+
+    public long getField03() {
+        return field03;
+    }
+
+    public String getField04() {
+        return field04;
+    }
+
+    public String getField05() {
+        return field05;
+    }
+
+    public long getField06() {
+        return field06;
+    }
+
+    public String getField07() {
+        return field07;
+    }
+
+    public String getField08() {
+        return field08;
+    }
+
+    public long getField09() {
+        return field09;
+    }
+
+    public String getField10() {
+        return field10;
+    }
+
+    public String getField11() {
+        return field11;
+    }
+
+    public long getField12() {
+        return field12;
+    }
+
+    public String getField13() {
+        return field13;
+    }
+
+    public String getField14() {
+        return field14;
+    }
+
+    public long getField15() {
+        return field15;
+    }
+
+    public String getField16() {
+        return field16;
+    }
+
+    public String getField17() {
+        return field17;
+    }
+
+    public long getField18() {
+        return field18;
+    }
+
+    public String getField19() {
+        return field19;
+    }
+
+    public String getField20() {
+        return field20;
+    }
+
+    public long getField21() {
+        return field21;
+    }
+
+    public String getField22() {
+        return field22;
+    }
+
+    public String getField23() {
+        return field23;
+    }
+
+    public long getField24() {
+        return field24;
+    }
+}
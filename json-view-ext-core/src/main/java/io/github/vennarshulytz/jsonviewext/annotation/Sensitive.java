@@ -2,6 +2,7 @@ package io.github.vennarshulytz.jsonviewext.annotation;
 
 
 import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.MaskType;
 
 import java.lang.annotation.*;
 
@@ -17,12 +18,40 @@ import java.lang.annotation.*;
 public @interface Sensitive {
 
     /**
-     * 脱敏类型处理器
+     * 脱敏类型处理器，默认使用由下列参数配置的 {@link MaskType}
      */
-    Class<? extends SensitiveType> type();
+    Class<? extends SensitiveType> type() default MaskType.class;
 
     /**
      * 需要脱敏的属性名称
      */
     String[] props();
+
+    /**
+     * 保留的前缀长度，仅对 {@link MaskType} 生效
+     *
+     * @since 1.2.0
+     */
+    int keepPrefix() default 0;
+
+    /**
+     * 保留的后缀长度，仅对 {@link MaskType} 生效
+     *
+     * @since 1.2.0
+     */
+    int keepSuffix() default 0;
+
+    /**
+     * 掩码字符，仅对 {@link MaskType} 生效
+     *
+     * @since 1.2.0
+     */
+    char maskChar() default '*';
+
+    /**
+     * 只替换匹配该正则的字符，为空时替换前后缀之间的全部字符，仅对 {@link MaskType} 生效
+     *
+     * @since 1.2.0
+     */
+    String regex() default "";
 }
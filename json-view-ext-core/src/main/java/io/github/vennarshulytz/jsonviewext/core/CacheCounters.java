@@ -0,0 +1,42 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 内部缓存的命中、未命中和清除计数，可并发更新
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class CacheCounters {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void hit(long count) {
+        hits.add(count);
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public void evicted(long count) {
+        evictions.add(count);
+    }
+
+    /**
+     * 生成当前计数的快照
+     *
+     * @param name 缓存名称
+     * @param size 缓存当前的条目数
+     */
+    public CacheStats snapshot(String name, long size) {
+        return new CacheStats(name, size, hits.sum(), misses.sum(), evictions.sum());
+    }
+}
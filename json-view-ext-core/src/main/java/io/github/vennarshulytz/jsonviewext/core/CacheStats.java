@@ -0,0 +1,66 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+/**
+ * 内部缓存状态的快照：当前条目数以及累计的命中、未命中和清除次数
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class CacheStats {
+
+    private final String name;
+    private final long size;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public CacheStats(String name, long size, long hits, long misses, long evictions) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * 因容量上限或手动清除而移除的条目数
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * 命中率，尚无访问时为 0
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "name='" + name + '\'' +
+                ", size=" + size +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+}
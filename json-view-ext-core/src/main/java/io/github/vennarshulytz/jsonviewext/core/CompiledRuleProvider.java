@@ -0,0 +1,17 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+/**
+ * 编译期生成的规则表，通过 {@link java.util.ServiceLoader} 加载
+ * <p>
+ * 实现类由 json-view-ext-processor 注解处理器生成，一般不需要手动实现
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public interface CompiledRuleProvider {
+
+    /**
+     * 将预先解析的规则注册到规则表
+     */
+    void register(CompiledRules rules);
+}
@@ -0,0 +1,232 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+import io.github.vennarshulytz.jsonviewext.model.FilterRule;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 编译期规则表，保存注解处理器预先解析的 @JsonViewExt 规则
+ * <p>
+ * 按方法签名索引，类型以类名保存，创建过滤上下文时再通过方法所在类的类加载器加载。
+ * 规则表中没有的方法由 {@link FilterRuleRegistry} 回退到反射解析
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class CompiledRules {
+
+    private static final Logger log = LoggerFactory.getLogger(CompiledRules.class);
+
+    private final Map<String, View> views = new ConcurrentHashMap<>();
+
+    /**
+     * 从类加载器中加载所有 {@link CompiledRuleProvider} 并合并为一个规则表
+     */
+    public static CompiledRules load(ClassLoader classLoader) {
+        CompiledRules rules = new CompiledRules();
+        Iterator<CompiledRuleProvider> providers =
+                ServiceLoader.load(CompiledRuleProvider.class, classLoader).iterator();
+        while (hasNext(providers)) {
+            try {
+                providers.next().register(rules);
+            } catch (ServiceConfigurationError | RuntimeException e) {
+                log.warn("Failed to load compiled JsonViewExt rules", e);
+            }
+        }
+        if (!rules.isEmpty()) {
+            log.debug("Loaded {} compiled JsonViewExt views", rules.size());
+        }
+        return rules;
+    }
+
+    private static boolean hasNext(Iterator<CompiledRuleProvider> providers) {
+        try {
+            return providers.hasNext();
+        } catch (ServiceConfigurationError e) {
+            log.warn("Failed to load compiled JsonViewExt rules", e);
+            return false;
+        }
+    }
+
+    /**
+     * 方法在规则表中的键：声明类名#方法名(参数类型名,...)
+     */
+    public static String methodKey(Method method) {
+        StringBuilder key = new StringBuilder(method.getDeclaringClass().getName())
+                .append('#').append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(parameterTypes[i].getTypeName());
+        }
+        return key.append(')').toString();
+    }
+
+    /**
+     * 注册方法的规则，键的格式见 {@link #methodKey(Method)}
+     */
+    public View method(String methodKey) {
+        View view = new View();
+        views.put(methodKey, view);
+        return view;
+    }
+
+    public boolean contains(Method method) {
+        return !views.isEmpty() && views.containsKey(methodKey(method));
+    }
+
+    /**
+     * 根据规则表创建方法的过滤上下文（未冻结），方法不在规则表中或类型无法加载时返回 null
+     */
+    public FilterContext createContext(Method method) {
+        if (views.isEmpty()) {
+            return null;
+        }
+        View view = views.get(methodKey(method));
+        if (view == null) {
+            return null;
+        }
+        ClassLoader classLoader = method.getDeclaringClass().getClassLoader();
+        try {
+            FilterContext context = new FilterContext();
+            for (Rule rule : view.includes) {
+                context.addIncludeRule(rule.toFilterRule(true, classLoader));
+            }
+            for (Rule rule : view.excludes) {
+                context.addExcludeRule(rule.toFilterRule(false, classLoader));
+            }
+            return context;
+        } catch (ClassNotFoundException | ClassCastException | LinkageError e) {
+            log.warn("Compiled JsonViewExt rules of {} cannot be loaded, falling back to reflection", method, e);
+            return null;
+        }
+    }
+
+    public boolean isEmpty() {
+        return views.isEmpty();
+    }
+
+    public int size() {
+        return views.size();
+    }
+
+    /**
+     * 单个方法的规则，include/exclude 按注解中的声明顺序注册
+     */
+    public static final class View {
+
+        private final List<Rule> includes = new ArrayList<>();
+        private final List<Rule> excludes = new ArrayList<>();
+        private Rule last;
+
+        private View() {
+        }
+
+        public View include(String className, String field, String... props) {
+            last = new Rule(className, field, props);
+            includes.add(last);
+            return this;
+        }
+
+        public View exclude(String className, String field, String... props) {
+            last = new Rule(className, field, props);
+            excludes.add(last);
+            return this;
+        }
+
+        /**
+         * 为最近注册的规则添加脱敏配置，参数含义与 {@link io.github.vennarshulytz.jsonviewext.annotation.Sensitive} 一致
+         */
+        public View sensitive(String typeName, int keepPrefix, int keepSuffix, char maskChar, String regex,
+                              String... props) {
+            if (last == null) {
+                throw new IllegalStateException("sensitive() must follow include() or exclude()");
+            }
+            last.sensitives.add(new Sensitive(typeName, keepPrefix, keepSuffix, maskChar, regex, props));
+            return this;
+        }
+    }
+
+    private static final class Rule {
+
+        private final String className;
+        private final String field;
+        private final String[] props;
+        private final List<Sensitive> sensitives = new ArrayList<>();
+
+        Rule(String className, String field, String[] props) {
+            this.className = className;
+            this.field = field;
+            this.props = props;
+        }
+
+        /**
+         * 与 {@link FilterRuleRegistry} 解析注解的方式一致：后声明的脱敏配置覆盖先声明的
+         */
+        FilterRule toFilterRule(boolean isInclude, ClassLoader classLoader) throws ClassNotFoundException {
+            Class<?> clazz = Class.forName(className, false, classLoader);
+            Map<String, Class<? extends SensitiveType>> sensitiveProps = new HashMap<>();
+            Map<String, SensitiveType> sensitiveHandlers = new HashMap<>();
+            for (Sensitive sensitive : sensitives) {
+                Class<? extends SensitiveType> type =
+                        Class.forName(sensitive.typeName, false, classLoader).asSubclass(SensitiveType.class);
+                SensitiveType handler = sensitive.resolveHandler(type);
+                for (String prop : sensitive.props) {
+                    sensitiveProps.put(prop, type);
+                    if (handler != null) {
+                        sensitiveHandlers.put(prop, handler);
+                    } else {
+                        sensitiveHandlers.remove(prop);
+                    }
+                }
+            }
+            return new FilterRule(clazz, field, new HashSet<>(Arrays.asList(props)), isInclude,
+                    sensitiveProps, sensitiveHandlers);
+        }
+    }
+
+    private static final class Sensitive {
+
+        private final String typeName;
+        private final int keepPrefix;
+        private final int keepSuffix;
+        private final char maskChar;
+        private final String regex;
+        private final String[] props;
+
+        Sensitive(String typeName, int keepPrefix, int keepSuffix, char maskChar, String regex, String[] props) {
+            this.typeName = typeName;
+            this.keepPrefix = keepPrefix;
+            this.keepSuffix = keepSuffix;
+            this.maskChar = maskChar;
+            this.regex = regex;
+            this.props = props;
+        }
+
+        SensitiveType resolveHandler(Class<? extends SensitiveType> type) {
+            try {
+                return SensitiveHandler.getHandler(type, keepPrefix, keepSuffix, maskChar, regex);
+            } catch (Exception e) {
+                log.warn("Failed to resolve SensitiveType: {}", typeName, e);
+                return null;
+            }
+        }
+    }
+}
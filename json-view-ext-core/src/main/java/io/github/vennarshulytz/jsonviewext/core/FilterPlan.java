@@ -0,0 +1,230 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import io.github.vennarshulytz.jsonviewext.model.FilterRule;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 过滤计划，预先计算某个 Bean 序列化器在指定规则下需要输出的属性
+ * <p>
+ * 计划在首次遇到 (序列化器, 规则) 组合时编译，之后除元素序列化器缓存外只读，可在多线程间共享
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class FilterPlan {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterPlan.class);
+
+    private final FilterRule rule;
+    private final Entry[] entries;
+    private final int droppedCount;
+
+    private FilterPlan(FilterRule rule, Entry[] entries, int droppedCount) {
+        this.rule = rule;
+        this.entries = entries;
+        this.droppedCount = droppedCount;
+    }
+
+    /**
+     * 根据规则编译过滤计划，只保留需要输出的属性
+     */
+    public static FilterPlan compile(BeanSerializerBase serializer, FilterRule rule) {
+        return compile(serializer, rule, false);
+    }
+
+    /**
+     * 根据规则编译过滤计划，只保留需要输出的属性
+     *
+     * @param generateAccessors 是否为 getter 生成直接调用的访问器，生成失败的属性仍使用反射读取
+     * @since 1.2.0
+     */
+    public static FilterPlan compile(BeanSerializerBase serializer, FilterRule rule, boolean generateAccessors) {
+        List<Entry> entries = new ArrayList<>();
+        int dropped = 0;
+        Iterator<PropertyWriter> props = serializer.properties();
+        while (props.hasNext()) {
+            PropertyWriter prop = props.next();
+            String propName = prop.getName();
+
+            boolean shouldSerialize = rule.isInclude() == rule.getProps().contains(propName);
+            if (!shouldSerialize) {
+                dropped++;
+                continue;
+            }
+
+            Class<? extends SensitiveType> sensitiveClass = rule.getSensitiveProps().get(propName);
+            SensitiveType sensitiveType = rule.getSensitiveHandler(propName);
+            if (sensitiveType == null) {
+                sensitiveType = resolveHandler(sensitiveClass);
+            }
+            entries.add(new Entry(prop, sensitiveClass, sensitiveType, generateAccessors));
+        }
+        return new FilterPlan(rule, entries.toArray(new Entry[0]), dropped);
+    }
+
+    private static SensitiveType resolveHandler(Class<? extends SensitiveType> sensitiveClass) {
+        if (sensitiveClass == null) {
+            return null;
+        }
+        try {
+            return SensitiveHandler.getHandler(sensitiveClass);
+        } catch (Exception e) {
+            // 保持与运行时脱敏一致的容错行为，序列化时再尝试
+            log.warn("Failed to resolve SensitiveType: {}", sensitiveClass.getName(), e);
+            return null;
+        }
+    }
+
+    public FilterRule getRule() {
+        return rule;
+    }
+
+    public Entry[] getEntries() {
+        return entries;
+    }
+
+    /**
+     * 按规则不输出的属性数量
+     */
+    public int getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * 过滤计划中的单个属性
+     */
+    public static final class Entry {
+
+        private final PropertyWriter writer;
+        private final BeanPropertyWriter beanWriter;
+        private final FilterPropertyWriter valueWriter;
+        private final String name;
+        private final SerializableString serializedName;
+        private final Class<? extends SensitiveType> sensitiveClass;
+        private final SensitiveType sensitiveType;
+
+        /**
+         * 生成的属性访问器，为 null 时通过 {@link BeanPropertyWriter#get(Object)} 反射读取
+         */
+        private final Function<Object, Object> accessor;
+
+        /**
+         * 集合/数组元素序列化器缓存，按元素运行时类型查找（与 BeanPropertyWriter 的动态序列化器缓存方式一致）
+         * <p>
+         * 多线程并发替换，PropertySerializerMap 本身不可变，并发时最多丢失一次新增条目，之后重新查找
+         */
+        private volatile PropertySerializerMap elementSerializers = PropertySerializerMap.emptyForRootValues();
+
+        Entry(PropertyWriter writer, Class<? extends SensitiveType> sensitiveClass, SensitiveType sensitiveType,
+              boolean generateAccessor) {
+            this.writer = writer;
+            this.beanWriter = writer instanceof BeanPropertyWriter ? (BeanPropertyWriter) writer : null;
+            this.valueWriter = beanWriter != null && FilterPropertyWriter.canCopy(beanWriter)
+                    ? new FilterPropertyWriter(beanWriter) : null;
+            this.name = writer.getName();
+            this.serializedName = beanWriter != null ? beanWriter.getSerializedName() : new SerializedString(name);
+            this.sensitiveClass = sensitiveClass;
+            this.sensitiveType = sensitiveType;
+            this.accessor = generateAccessor && valueWriter != null ? PropertyAccessors.generate(beanWriter) : null;
+        }
+
+        public PropertyWriter getWriter() {
+            return writer;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public SerializableString getSerializedName() {
+            return serializedName;
+        }
+
+        public boolean isSensitive() {
+            return sensitiveClass != null;
+        }
+
+        /**
+         * 编译时解析的脱敏处理器，解析失败时返回 null
+         */
+        public SensitiveType getSensitiveType() {
+            return sensitiveType;
+        }
+
+        /**
+         * 读取属性值，非 {@link BeanPropertyWriter} 返回 null
+         */
+        public Object getValue(Object bean) throws Exception {
+            if (accessor != null) {
+                return accessor.apply(bean);
+            }
+            return beanWriter != null ? beanWriter.get(bean) : null;
+        }
+
+        public boolean hasGeneratedAccessor() {
+            return accessor != null;
+        }
+
+        /**
+         * 使用已读取的属性值写入字段，无法复用属性值时由原始写入器重新读取
+         */
+        public void serializeAsField(Object bean, Object value, JsonGenerator gen, SerializerProvider provider)
+                throws Exception {
+            if (valueWriter != null) {
+                valueWriter.serializeValueAsField(bean, value, gen, provider);
+            } else {
+                writer.serializeAsField(bean, gen, provider);
+            }
+        }
+
+        /**
+         * 获取集合/数组元素的序列化器
+         */
+        public JsonSerializer<Object> findElementSerializer(Class<?> type, SerializerProvider provider)
+                throws JsonMappingException {
+            PropertySerializerMap map = elementSerializers;
+            JsonSerializer<Object> serializer = map.serializerFor(type);
+            if (serializer == null) {
+                PropertySerializerMap.SerializerAndMapResult result = map.findAndAddRootValueSerializer(type, provider);
+                elementSerializers = result.map;
+                serializer = result.serializer;
+            }
+            return serializer;
+        }
+
+        /**
+         * 对属性值进行脱敏
+         */
+        public String desensitize(String value) {
+            if (sensitiveType != null) {
+                return SensitiveHandler.desensitize(sensitiveType, value);
+            }
+            return SensitiveHandler.desensitize(sensitiveClass, value);
+        }
+
+        /**
+         * 将脱敏结果写入缓冲区，脱敏类型不支持时返回 -1
+         */
+        public int desensitize(String value, char[] scratch) {
+            return SensitiveHandler.desensitize(sensitiveType, value, scratch);
+        }
+    }
+}
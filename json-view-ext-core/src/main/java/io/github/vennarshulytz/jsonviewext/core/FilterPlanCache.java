@@ -0,0 +1,76 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * 各 {@link JsonViewExtBeanSerializerModifier.JsonViewExtBeanSerializer} 中 规则 -> 过滤计划 缓存的登记处
+ * <p>
+ * 过滤计划以规则实例为键保存在各序列化器中，清空视图后重新解析的规则是新的实例，旧计划不会再被使用；
+ * 通过登记处统一清空各序列化器的计划，并汇总条目数和命中计数。序列化器以弱引用登记，随所属的 ObjectMapper 一起回收
+ * <p>
+ * 命中在每次序列化独占的 {@link PathStack} 中累计，序列化结束时一次性汇总，写入过程中不更新共享计数
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class FilterPlanCache {
+
+    /**
+     * 过滤计划缓存名称
+     */
+    public static final String CACHE_NAME = "filter-plans";
+
+    private static final Set<JsonViewExtBeanSerializerModifier.JsonViewExtBeanSerializer> serializers =
+            Collections.newSetFromMap(new WeakHashMap<>());
+
+    private static final CacheCounters counters = new CacheCounters();
+
+    private FilterPlanCache() {
+    }
+
+    static void register(JsonViewExtBeanSerializerModifier.JsonViewExtBeanSerializer serializer) {
+        synchronized (serializers) {
+            serializers.add(serializer);
+        }
+    }
+
+    static void hit(long count) {
+        counters.hit(count);
+    }
+
+    static void miss() {
+        counters.miss();
+    }
+
+    /**
+     * 清空所有序列化器中的过滤计划，之后按需重新编译
+     *
+     * @return 移除的条目数
+     */
+    public static int purge() {
+        int removed = 0;
+        for (JsonViewExtBeanSerializerModifier.JsonViewExtBeanSerializer serializer : snapshot()) {
+            removed += serializer.clearPlans();
+        }
+        counters.evicted(removed);
+        return removed;
+    }
+
+    public static CacheStats getStats() {
+        long size = 0;
+        for (JsonViewExtBeanSerializerModifier.JsonViewExtBeanSerializer serializer : snapshot()) {
+            size += serializer.getPlanCount();
+        }
+        return counters.snapshot(CACHE_NAME, size);
+    }
+
+    private static List<JsonViewExtBeanSerializerModifier.JsonViewExtBeanSerializer> snapshot() {
+        synchronized (serializers) {
+            return new ArrayList<>(serializers);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+
+/**
+ * 过滤计划使用的属性写入器，复制自原始 {@link BeanPropertyWriter}
+ * <p>
+ * 与 {@link BeanPropertyWriter#serializeAsField} 的处理逻辑一致，但由调用方传入已读取的属性值，
+ * 避免重复调用 getter；序列化器优先使用已解析的序列化器，其次按运行时类型动态缓存
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class FilterPropertyWriter extends BeanPropertyWriter {
+
+    private static final long serialVersionUID = 1L;
+
+    public FilterPropertyWriter(BeanPropertyWriter base) {
+        super(base);
+    }
+
+    /**
+     * 是否可以复制该写入器，子类（虚拟属性、展开属性等）有各自的写入逻辑，不做复制
+     */
+    public static boolean canCopy(BeanPropertyWriter writer) {
+        return writer.getClass() == BeanPropertyWriter.class;
+    }
+
+    /**
+     * 使用已读取的属性值写入字段
+     */
+    public void serializeValueAsField(Object bean, Object value, JsonGenerator gen, SerializerProvider prov)
+            throws Exception {
+        if (value == null) {
+            if (_nullSerializer != null) {
+                gen.writeFieldName(_name);
+                _nullSerializer.serialize(null, gen, prov);
+            }
+            return;
+        }
+
+        JsonSerializer<Object> ser = findSerializer(value.getClass(), prov);
+
+        if (_suppressableValue != null) {
+            if (MARKER_FOR_EMPTY == _suppressableValue) {
+                if (ser.isEmpty(prov, value)) {
+                    return;
+                }
+            } else if (_suppressableValue.equals(value)) {
+                return;
+            }
+        }
+        if (value == bean) {
+            if (_handleSelfReference(bean, gen, prov, ser)) {
+                return;
+            }
+        }
+
+        gen.writeFieldName(_name);
+        if (_typeSerializer == null) {
+            ser.serialize(value, gen, prov);
+        } else {
+            ser.serializeWithType(value, gen, prov, _typeSerializer);
+        }
+    }
+
+    private JsonSerializer<Object> findSerializer(Class<?> type, SerializerProvider prov) throws Exception {
+        JsonSerializer<Object> ser = _serializer;
+        if (ser == null) {
+            PropertySerializerMap map = _dynamicSerializers;
+            ser = map.serializerFor(type);
+            if (ser == null) {
+                ser = _findAndAddDynamic(map, type, prov);
+            }
+        }
+        return ser;
+    }
+}
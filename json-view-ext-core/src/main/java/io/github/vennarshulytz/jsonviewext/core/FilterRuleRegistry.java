@@ -3,9 +3,13 @@ package io.github.vennarshulytz.jsonviewext.core;
 import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;
 import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;
 import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;
+import io.github.vennarshulytz.jsonviewext.jfr.JsonViewExtEvents;
+import io.github.vennarshulytz.jsonviewext.jfr.ViewCompilationEvent;
 import io.github.vennarshulytz.jsonviewext.model.FilterContext;
 import io.github.vennarshulytz.jsonviewext.model.FilterRule;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
 import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.MaskType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,6 +18,7 @@ import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 过滤规则注册中心，负责解析注解并缓存规则
@@ -27,25 +32,83 @@ public class FilterRuleRegistry {
 
     private static final ConcurrentMap<Method, Optional<JsonViewExt>> jsonViewExtCache = new ConcurrentHashMap<>();
 
+    private static final ConcurrentMap<Method, Boolean> annotatedCache = new ConcurrentHashMap<>();
+
+    /**
+     * 视图缓存名称：方法 -> 解析后的过滤上下文
+     *
+     * @since 1.2.0
+     */
+    public static final String VIEWS_CACHE = "views";
+
+    /**
+     * 方法是否带 @JsonViewExt 注解的缓存名称
+     *
+     * @since 1.2.0
+     */
+    public static final String ANNOTATED_METHODS_CACHE = "annotated-methods";
+
+    /**
+     * 方法上 @JsonViewExt 注解的缓存名称
+     *
+     * @since 1.2.0
+     */
+    public static final String ANNOTATIONS_CACHE = "annotations";
+
+    private static final CacheCounters viewCounters = new CacheCounters();
+    private static final CacheCounters annotatedCounters = new CacheCounters();
+    private static final CacheCounters annotationCounters = new CacheCounters();
+
+    /**
+     * 编译期规则表，首次使用时通过 ServiceLoader 加载
+     */
+    private static volatile CompiledRules compiledRules;
+
     /**
      * 方法级别的规则缓存
      */
-    private static final Map<Method, FilterContext> methodRuleCache = new ConcurrentHashMap<>();
+    private static final Map<Method, ViewEntry> methodRuleCache = new ConcurrentHashMap<>();
 
     /**
      * 解析并缓存方法的过滤规则
      */
     public FilterContext getOrCreateContext(Method method) {
-        return methodRuleCache.computeIfAbsent(method, this::parseAnnotation);
+        ViewEntry entry = methodRuleCache.get(method);
+        if (entry != null) {
+            viewCounters.hit();
+        } else {
+            viewCounters.miss();
+            entry = methodRuleCache.computeIfAbsent(method, m -> new ViewEntry(compileContext(m)));
+        }
+        entry.uses.increment();
+        return entry.context;
+    }
+
+    /**
+     * 解析方法的过滤规则，开启 JFR 记录时产生 {@link ViewCompilationEvent}
+     */
+    private FilterContext compileContext(Method method) {
+        ViewCompilationEvent event = JsonViewExtEvents.beginViewCompilation();
+        FilterContext context = parseAnnotation(method);
+        if (event != null) {
+            event.finish(method, context.getRules().size());
+        }
+        return context;
     }
 
     /**
      * 解析 @JsonViewExt 注解
      */
     private FilterContext parseAnnotation(Method method) {
+        FilterContext compiled = getCompiledRules().createContext(method);
+        if (compiled != null) {
+            log.debug("Using compiled rules for method: {}", method);
+            return compiled.freeze();
+        }
+
         Optional<JsonViewExt> jsonViewExtAnnotation = getJsonViewExtAnnotation(method);
         if (!jsonViewExtAnnotation.isPresent()) {
-            return new FilterContext();
+            return new FilterContext().freeze();
         }
         JsonViewExt annotation = jsonViewExtAnnotation.get();
 
@@ -67,7 +130,8 @@ public class FilterRuleRegistry {
             log.debug("Parsed exclude rule: {}", rule);
         }
 
-        return context;
+        // 解析完成后冻结，合并规则查找表
+        return context.freeze();
     }
 
     /**
@@ -80,27 +144,175 @@ public class FilterRuleRegistry {
 
         // 解析敏感字段配置
         Map<String, Class<? extends SensitiveType>> sensitiveProps = new HashMap<>();
+        Map<String, SensitiveType> sensitiveHandlers = new HashMap<>();
         for (Sensitive sensitive : filter.sensitives()) {
             Class<? extends SensitiveType> sensitiveType = sensitive.type();
+            SensitiveType handler = resolveHandler(sensitive);
             for (String prop : sensitive.props()) {
                 sensitiveProps.put(prop, sensitiveType);
+                if (handler != null) {
+                    sensitiveHandlers.put(prop, handler);
+                } else {
+                    sensitiveHandlers.remove(prop);
+                }
             }
         }
 
-        return new FilterRule(clazz, field, props, isInclude, sensitiveProps);
+        return new FilterRule(clazz, field, props, isInclude, sensitiveProps, sensitiveHandlers);
+    }
+
+    /**
+     * 在规则解析时绑定脱敏处理器实例，实例化失败时保留类型，序列化时再尝试
+     */
+    private SensitiveType resolveHandler(Sensitive sensitive) {
+        try {
+            return SensitiveHandler.getHandler(sensitive);
+        } catch (Exception e) {
+            log.warn("Failed to resolve SensitiveType: {}", sensitive.type().getName(), e);
+            return null;
+        }
     }
 
     /**
      * 判断方法是否有 @JsonViewExt 注解
      */
     public boolean hasJsonViewExtAnnotation(Method method) {
-        return getJsonViewExtAnnotation(method).isPresent();
+        Boolean annotated = annotatedCache.get(method);
+        if (annotated != null) {
+            annotatedCounters.hit();
+            return annotated;
+        }
+        annotatedCounters.miss();
+        return annotatedCache.computeIfAbsent(method,
+                m -> getCompiledRules().contains(m) || getJsonViewExtAnnotation(m).isPresent());
+    }
+
+    /**
+     * 向编译期规则表注册规则，供 Spring AOT 等在启动时生成的代码使用，应在解析任何方法的规则之前调用
+     *
+     * @since 1.2.0
+     */
+    public static void registerCompiledRules(CompiledRuleProvider provider) {
+        provider.register(getCompiledRules());
+        annotatedCache.clear();
+    }
+
+    /**
+     * 获取编译期规则表，由 json-view-ext-processor 生成，未使用注解处理器时为空表
+     *
+     * @since 1.2.0
+     */
+    public static CompiledRules getCompiledRules() {
+        CompiledRules rules = compiledRules;
+        if (rules == null) {
+            synchronized (FilterRuleRegistry.class) {
+                rules = compiledRules;
+                if (rules == null) {
+                    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+                    rules = CompiledRules.load(classLoader != null
+                            ? classLoader : FilterRuleRegistry.class.getClassLoader());
+                    compiledRules = rules;
+                }
+            }
+        }
+        return rules;
     }
 
     public static Optional<JsonViewExt> getJsonViewExtAnnotation(Method method) {
+        Optional<JsonViewExt> annotation = jsonViewExtCache.get(method);
+        if (annotation != null) {
+            annotationCounters.hit();
+            return annotation;
+        }
+        annotationCounters.miss();
         return jsonViewExtCache.computeIfAbsent(method, m -> Optional.ofNullable(findJsonViewExtAnnotation(m)));
     }
 
+    /**
+     * 获取所有已解析视图的快照
+     *
+     * @since 1.2.0
+     */
+    public static List<ViewStats> getViewStats() {
+        List<ViewStats> views = new ArrayList<>(methodRuleCache.size());
+        for (Map.Entry<Method, ViewEntry> entry : methodRuleCache.entrySet()) {
+            FilterContext context = entry.getValue().context;
+            views.add(new ViewStats(entry.getKey(), context, entry.getValue().uses.sum(),
+                    estimateSize(context)));
+        }
+        return views;
+    }
+
+    /**
+     * 获取规则相关缓存的状态：视图、方法是否带注解、方法上的注解、各序列化器中的过滤计划
+     *
+     * @since 1.2.0
+     */
+    public static List<CacheStats> getCacheStats() {
+        return Arrays.asList(
+                viewCounters.snapshot(VIEWS_CACHE, methodRuleCache.size()),
+                annotatedCounters.snapshot(ANNOTATED_METHODS_CACHE, annotatedCache.size()),
+                annotationCounters.snapshot(ANNOTATIONS_CACHE, jsonViewExtCache.size()),
+                FilterPlanCache.getStats());
+    }
+
+    /**
+     * 清空指定的缓存，之后按需重新解析；清空视图时一并清空以旧规则为键的过滤计划和规则解析时创建的
+     * {@link MaskType} 实例，以旧视图为键的 {@link ViewWriterCache} 也应一并清空
+     *
+     * @param name 缓存名称，见 {@link #VIEWS_CACHE} 等常量
+     * @return 移除的条目数，名称不属于本类时返回 -1
+     * @since 1.2.0
+     */
+    public static int purgeCache(String name) {
+        switch (name) {
+            case VIEWS_CACHE:
+                return purge(methodRuleCache, viewCounters) + FilterPlanCache.purge() + MaskType.purge();
+            case FilterPlanCache.CACHE_NAME:
+                return FilterPlanCache.purge();
+            case MaskType.INSTANCES_CACHE:
+                return MaskType.purge();
+            case ANNOTATED_METHODS_CACHE:
+                return purge(annotatedCache, annotatedCounters);
+            case ANNOTATIONS_CACHE:
+                return purge(jsonViewExtCache, annotationCounters);
+            default:
+                return -1;
+        }
+    }
+
+    private static int purge(Map<Method, ?> cache, CacheCounters counters) {
+        int removed = 0;
+        for (Iterator<Method> it = cache.keySet().iterator(); it.hasNext(); ) {
+            it.next();
+            it.remove();
+            removed++;
+        }
+        counters.evicted(removed);
+        return removed;
+    }
+
+    /**
+     * 粗略估算上下文占用的内存：规则对象、规则表和查找索引中的条目以及路径、属性名字符串
+     */
+    private static long estimateSize(FilterContext context) {
+        // 上下文、两个规则表和查找索引本身
+        long size = 160;
+        for (FilterRule rule : context.getRules()) {
+            size += 96 + stringSize(rule.getFieldPath());
+            for (String prop : rule.getProps()) {
+                size += 32 + stringSize(prop);
+            }
+            // 脱敏类型和脱敏处理器两个映射中的条目
+            size += 64L * rule.getSensitiveProps().size();
+        }
+        return size;
+    }
+
+    private static long stringSize(String value) {
+        return 40 + 2L * value.length();
+    }
+
 
     /**
      * 从方法、类上获取 @JsonViewExt 注解
@@ -133,4 +345,16 @@ public class FilterRuleRegistry {
         return null;
     }
 
+    /**
+     * 已解析的视图及其使用次数
+     */
+    private static final class ViewEntry {
+
+        private final FilterContext context;
+        private final LongAdder uses = new LongAdder();
+
+        ViewEntry(FilterContext context) {
+            this.context = context;
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+
+/**
+ * 单次序列化的过滤状态，通过 {@code ObjectWriter.withAttribute} 传递给序列化器，
+ * 不依赖 ThreadLocal，可在设置上下文之外的线程上执行序列化
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class FilterState {
+
+    /**
+     * SerializerProvider 属性键
+     */
+    public static final Object ATTRIBUTE_KEY = FilterState.class;
+
+    private final FilterContext context;
+    private final PathStack pathStack = new PathStack();
+
+    public FilterState(FilterContext context) {
+        this.context = context;
+    }
+
+    public FilterContext getContext() {
+        return context;
+    }
+
+    public PathStack getPathStack() {
+        return pathStack;
+    }
+}
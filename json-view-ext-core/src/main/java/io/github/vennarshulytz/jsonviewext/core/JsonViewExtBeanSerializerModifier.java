@@ -1,19 +1,20 @@
 package io.github.vennarshulytz.jsonviewext.core;
 
+import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.PropertyWriter;
 import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import io.github.vennarshulytz.jsonviewext.model.FilterContext;
 import io.github.vennarshulytz.jsonviewext.model.FilterRule;
-import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
-import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
+import io.github.vennarshulytz.jsonviewext.model.PathNode;
+import io.github.vennarshulytz.jsonviewext.sensitive.MaskedValueCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,12 +29,72 @@ import java.util.*;
  */
 public class JsonViewExtBeanSerializerModifier extends BeanSerializerModifier {
 
+    /**
+     * 脱敏结果缓存，为 null 时不缓存
+     */
+    private final MaskedValueCache maskedValueCache;
+
+    /**
+     * 是否为 getter 生成直接调用的访问器
+     */
+    private boolean generatedAccessors = false;
+
+    /**
+     * 绑定的过滤上下文，为 null 时从 SerializerProvider 属性或线程本地上下文获取
+     */
+    private FilterContext context;
+
+    public JsonViewExtBeanSerializerModifier() {
+        this(null);
+    }
+
+    /**
+     * @param maskedValueCache 脱敏结果缓存，为 null 时不缓存
+     * @since 1.2.0
+     */
+    public JsonViewExtBeanSerializerModifier(MaskedValueCache maskedValueCache) {
+        this.maskedValueCache = maskedValueCache;
+    }
+
+    public MaskedValueCache getMaskedValueCache() {
+        return maskedValueCache;
+    }
+
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    /**
+     * 设置是否为被过滤属性的 getter 生成直接调用的访问器，需在序列化器创建前设置
+     *
+     * @since 1.2.0
+     */
+    public void setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+    }
+
+    public FilterContext getContext() {
+        return context;
+    }
+
+    /**
+     * 绑定过滤上下文，生成的序列化器只服务于该上下文；不是规则目标的类型直接使用默认序列化器
+     *
+     * @since 1.2.0
+     */
+    public void setContext(FilterContext context) {
+        this.context = context;
+    }
+
     @Override
     public JsonSerializer<?> modifySerializer(SerializationConfig config,
                                               BeanDescription beanDesc,
                                               JsonSerializer<?> serializer) {
         if (serializer instanceof BeanSerializerBase) {
-            return new JsonViewExtBeanSerializer((BeanSerializerBase) serializer, beanDesc.getBeanClass());
+            if (context != null && !context.isTargetClass(beanDesc.getBeanClass())) {
+                return serializer;
+            }
+            return new JsonViewExtBeanSerializer((BeanSerializerBase) serializer, beanDesc.getBeanClass(), this);
         }
         return serializer;
     }
@@ -47,29 +108,55 @@ public class JsonViewExtBeanSerializerModifier extends BeanSerializerModifier {
 
         private final BeanSerializerBase defaultSerializer;
         private final Class<?> beanClass;
+        private final MaskedValueCache maskedValueCache;
+        private final boolean generatedAccessors;
+        private final FilterContext boundContext;
+
+        /**
+         * 规则 -> 过滤计划缓存，按规则实例的引用区分（FilterRule#equals 只比较类型和路径）
+         */
+        private volatile Map<FilterRule, FilterPlan> plans = Collections.emptyMap();
 
         public JsonViewExtBeanSerializer(BeanSerializerBase defaultSerializer, Class<?> beanClass) {
+            this(defaultSerializer, beanClass, new JsonViewExtBeanSerializerModifier());
+        }
+
+        public JsonViewExtBeanSerializer(BeanSerializerBase defaultSerializer, Class<?> beanClass,
+                                         JsonViewExtBeanSerializerModifier modifier) {
             super(Object.class);
             this.defaultSerializer = defaultSerializer;
             this.beanClass = beanClass;
+            this.maskedValueCache = modifier.getMaskedValueCache();
+            this.generatedAccessors = modifier.isGeneratedAccessors();
+            this.boundContext = modifier.getContext();
+            FilterPlanCache.register(this);
         }
 
         @Override
         public void serialize(Object value, JsonGenerator gen, SerializerProvider provider)
                 throws IOException {
-            FilterContext context = JsonViewExtContextHolder.getContext();
+            // 优先使用绑定的上下文，其次使用 SerializerProvider 属性中的过滤状态，最后使用线程本地上下文
+            FilterState state = (FilterState) provider.getAttribute(FilterState.ATTRIBUTE_KEY);
+            FilterContext context = boundContext;
+            if (context == null) {
+                context = state != null ? state.getContext() : JsonViewExtContextHolder.getContext();
+            }
 
-            // 如果没有过滤上下文，使用默认序列化
-            if (context == null || !context.hasRules()) {
+            // 如果没有过滤上下文，或当前类型不是任何规则的目标类型，使用默认序列化
+            if (context == null || !context.hasRules() || !context.isTargetClass(beanClass)) {
                 defaultSerializer.serialize(value, gen, provider);
                 return;
             }
 
-            // 获取当前路径
-            String currentPath = PathTracker.getCurrentPath();
+            // 获取当前路径节点
+            PathStack pathStack = state != null ? state.getPathStack() : PathTracker.getPathStack();
+            PathNode currentNode = pathStack.peek();
+            if (currentNode == null) {
+                currentNode = context.getRootNode();
+            }
 
             // 检查是否有针对当前类的规则
-            FilterRule applicableRule = context.getApplicableRule(beanClass, currentPath);
+            FilterRule applicableRule = context.getApplicableRule(beanClass, currentNode);
 
             if (applicableRule == null) {
                 // 没有规则，使用默认序列化
@@ -78,101 +165,236 @@ public class JsonViewExtBeanSerializerModifier extends BeanSerializerModifier {
             }
 
             // 有规则，进行字段过滤序列化
-            serializeWithFilter(value, gen, provider, context, currentPath, applicableRule);
+            serializeWithFilter(value, gen, provider, pathStack, currentNode, applicableRule);
+        }
+
+        /**
+         * 写入脱敏后的字符串字段，启用缓存时优先使用缓存，否则优先使用缓冲区版本以避免中间字符串
+         * <p>
+         * 脱敏完成后才写出字段名，脱敏失败时生成器状态不变，可以回退到默认写入
+         */
+        private void writeMasked(FilterPlan.Entry entry, String value, JsonGenerator gen,
+                                 PathStack pathStack) throws IOException {
+            MaskedValueCache cache = getMaskedValueCache(pathStack);
+            if (cache != null && entry.getSensitiveType() != null) {
+                String masked = cache.desensitize(entry.getSensitiveType(), value);
+                gen.writeFieldName(entry.getSerializedName());
+                gen.writeString(masked);
+                return;
+            }
+            char[] scratch = pathStack.scratch(value.length());
+            int length = scratch != null ? entry.desensitize(value, scratch) : -1;
+            if (length >= 0) {
+                gen.writeFieldName(entry.getSerializedName());
+                gen.writeString(scratch, 0, length);
+            } else {
+                String masked = entry.desensitize(value);
+                gen.writeFieldName(entry.getSerializedName());
+                gen.writeString(masked);
+            }
+        }
+
+        private MaskedValueCache getMaskedValueCache(PathStack pathStack) {
+            if (maskedValueCache == null || maskedValueCache.getScope() == MaskedValueCache.Scope.GLOBAL) {
+                return maskedValueCache;
+            }
+            MaskedValueCache requestCache = pathStack.getMaskedValueCache();
+            if (requestCache == null) {
+                requestCache = maskedValueCache.newRequestCache();
+                pathStack.setMaskedValueCache(requestCache);
+            }
+            return requestCache;
         }
 
         private void serializeWithFilter(Object value, JsonGenerator gen,
                                          SerializerProvider provider,
-                                         FilterContext context,
-                                         String currentPath,
+                                         PathStack pathStack,
+                                         PathNode currentNode,
                                          FilterRule rule) throws IOException {
+            FilterPlan plan = getPlan(rule, pathStack);
+            SerializationStats stats = pathStack.getStats();
+            if (stats != null) {
+                stats.beanFiltered(plan.getDroppedCount());
+            }
+            int masked = 0;
             gen.writeStartObject();
 
-            Iterator<PropertyWriter> props = defaultSerializer.properties();
-            while (props.hasNext()) {
-                PropertyWriter prop = props.next();
-                String propName = prop.getName();
-
-                // 检查字段是否应该被序列化
-                FilterContext.FieldSerializationResult result = checkFieldSerialization(
-                        context, currentPath, propName, rule);
-
-                if (!result.shouldSerialize()) {
-                    continue;
+            PropertyProfile profile = stats != null ? stats.getPropertyProfile() : null;
+            for (FilterPlan.Entry entry : plan.getEntries()) {
+                boolean entryMasked;
+                if (profile == null) {
+                    entryMasked = serializeEntry(entry, value, gen, provider, pathStack, currentNode, stats);
+                } else {
+                    long startBytes = profile.bytesWritten(gen);
+                    long startNanos = System.nanoTime();
+                    entryMasked = serializeEntry(entry, value, gen, provider, pathStack, currentNode, stats);
+                    profile.record(beanClass, entry, System.nanoTime() - startNanos,
+                            profile.bytesWritten(gen) - startBytes);
+                }
+                if (entryMasked) {
+                    masked++;
                 }
+            }
 
-                try {
-                    Object propValue = getPropertyValue(value, prop);
+            gen.writeEndObject();
+            if (masked > 0 && stats != null) {
+                stats.beanMasked();
+            }
+        }
 
-                    // 处理脱敏
-                    if (result.hasSensitiveType() && propValue instanceof String) {
-                        String desensitized = SensitiveHandler.desensitize(
-                                result.getSensitiveType(), (String) propValue);
-                        gen.writeStringField(propName, desensitized);
-                        continue;
-                    }
+        /**
+         * 按过滤计划写入单个属性，写入失败时回退到默认写入
+         *
+         * @return 属性是否被脱敏
+         */
+        private boolean serializeEntry(FilterPlan.Entry entry, Object value, JsonGenerator gen,
+                                       SerializerProvider provider, PathStack pathStack,
+                                       PathNode currentNode, SerializationStats stats) {
+            PropertyWriter prop = entry.getWriter();
+            String propName = entry.getName();
+            // 记录写入前的位置，失败时据此判断当前属性是否已经写出了部分内容
+            JsonStreamContext objectContext = gen.getOutputContext();
+            String lastName = objectContext.getCurrentName();
+            int entryCount = objectContext.getEntryCount();
 
-                    // 处理嵌套对象
-                    if (propValue != null) {
-                        String newPath = currentPath.isEmpty() ? propName : currentPath + "." + propName;
+            try {
+                Object propValue = entry.getValue(value);
 
-                        if (propValue instanceof Collection) {
-                            serializeCollection(propName, (Collection<?>) propValue,
-                                    gen, provider, newPath);
-                        } else if (propValue.getClass().isArray()) {
-                            serializeArray(propName, propValue, gen, provider, newPath);
-                        } else if (isComplexType(propValue.getClass())) {
-                            serializeNestedObject(propName, propValue, gen, provider, newPath);
-                        } else {
-                            prop.serializeAsField(value, gen, provider);
+                // 处理脱敏
+                if (entry.isSensitive() && propValue instanceof String) {
+                    writeMasked(entry, (String) propValue, gen, pathStack);
+                    if (stats != null) {
+                        stats.fieldMasked();
+                    }
+                    return true;
+                }
 
-                        }
-                    } else {
+                // 处理嵌套对象
+                if (propValue == null) {
+                    entry.serializeAsField(value, null, gen, provider);
+                    return false;
+                }
+                switch (TypeCategory.of(propValue.getClass())) {
+                    case COLLECTION:
+                        serializeCollection(entry, (Collection<?>) propValue,
+                                gen, provider, pathStack, currentNode.child(propName));
+                        break;
+                    case PRIMITIVE_ARRAY:
+                        serializePrimitiveArray(entry, propValue, gen, provider);
+                        break;
+                    case OBJECT_ARRAY:
+                        serializeArray(entry, (Object[]) propValue,
+                                gen, provider, pathStack, currentNode.child(propName));
+                        break;
+                    case BEAN:
+                    case MAP:
+                        serializeNestedObject(entry, value, propValue,
+                                gen, provider, pathStack, currentNode.child(propName));
+                        break;
+                    default:
+                        entry.serializeAsField(value, propValue, gen, provider);
+                }
+            } catch (Exception e) {
+                log.warn("Error serializing property: {}", propName, e);
+                if (stats != null) {
+                    stats.fallbackError();
+                }
+                try {
+                    if (gen.getOutputContext() == objectContext
+                            && Objects.equals(objectContext.getCurrentName(), lastName)
+                            && objectContext.getEntryCount() == entryCount) {
+                        // 尚未写出任何内容，尝试使用默认方式写入
                         prop.serializeAsField(value, gen, provider);
+                    } else {
+                        // 已写出字段名或部分值，补全结构以保证输出仍是合法 JSON
+                        closePartialWrite(gen, objectContext, entryCount);
                     }
-                } catch (Exception e) {
-                    log.warn("Error serializing property: {}", propName, e);
-                    // 尝试使用默认方式写入
-                    try {
-                        prop.serializeAsField(value, gen, provider);
-                    } catch (Exception ex) {
-                        // 忽略无法序列化的字段
-                        log.debug("Skipping unserializable property: {}", propName);
+                } catch (Exception ex) {
+                    // 忽略无法序列化的字段
+                    log.debug("Skipping unserializable property: {}", propName);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 关闭写入失败时未完成的嵌套结构，回到当前对象层级；字段名已写出而值未写出时补写 null
+         */
+        private void closePartialWrite(JsonGenerator gen, JsonStreamContext objectContext,
+                                       int entryCount) throws IOException {
+            JsonStreamContext current = gen.getOutputContext();
+            while (current != objectContext && current != null) {
+                if (current.inArray()) {
+                    gen.writeEndArray();
+                } else {
+                    if (current.inObject()) {
+                        try {
+                            // 字段名之后缺少值时补写 null，没有待写的字段名时生成器拒绝写入，不产生输出
+                            gen.writeNull();
+                        } catch (JsonGenerationException ignored) {
+                            // 没有待写的字段名
+                        }
                     }
+                    gen.writeEndObject();
                 }
+                current = gen.getOutputContext();
             }
+            if (current == objectContext && objectContext.getEntryCount() == entryCount) {
+                gen.writeNull();
+            }
+        }
 
-            gen.writeEndObject();
+        /**
+         * 预先编译规则对应的过滤计划，规则不作用于当前类型时忽略
+         *
+         * @since 1.2.0
+         */
+        public void prepare(FilterRule rule) {
+            if (rule.getTargetClass() == beanClass) {
+                getPlan(rule, null);
+            }
         }
 
-        private FilterContext.FieldSerializationResult checkFieldSerialization(FilterContext context,
-                                                                               String currentPath,
-                                                                               String propName,
-                                                                               FilterRule rule) {
-            boolean shouldSerialize;
-            Class<? extends SensitiveType> sensitiveType = null;
-
-            if (rule.isInclude()) {
-                shouldSerialize = rule.getProps().contains(propName);
-                if (shouldSerialize) {
-                    sensitiveType = rule.getSensitiveProps().get(propName);
+        /**
+         * 获取规则对应的过滤计划，首次使用时编译并缓存
+         *
+         * @param pathStack 累计命中计数的路径栈，预编译时为 null
+         */
+        private FilterPlan getPlan(FilterRule rule, PathStack pathStack) {
+            FilterPlan plan = plans.get(rule);
+            if (plan != null) {
+                if (pathStack != null) {
+                    pathStack.planHit();
                 }
             } else {
-                shouldSerialize = !rule.getProps().contains(propName);
-                if (shouldSerialize) {
-                    sensitiveType = rule.getSensitiveProps().get(propName);
+                synchronized (this) {
+                    plan = plans.get(rule);
+                    if (plan == null) {
+                        FilterPlanCache.miss();
+                        plan = FilterPlan.compile(defaultSerializer, rule, generatedAccessors);
+                        // 写时复制，读取无需加锁
+                        Map<FilterRule, FilterPlan> copy = new IdentityHashMap<>(plans);
+                        copy.put(rule, plan);
+                        plans = copy;
+                    }
                 }
             }
+            return plan;
+        }
 
-            return new FilterContext.FieldSerializationResult(shouldSerialize, sensitiveType);
+        /**
+         * 清空过滤计划缓存
+         *
+         * @return 移除的条目数
+         */
+        synchronized int clearPlans() {
+            int removed = plans.size();
+            plans = Collections.emptyMap();
+            return removed;
         }
 
-        private Object getPropertyValue(Object bean, PropertyWriter prop) throws Exception {
-            if (prop instanceof BeanPropertyWriter) {
-                BeanPropertyWriter bpw = (BeanPropertyWriter) prop;
-                return bpw.get(bean);
-            }
-            return null;
+        int getPlanCount() {
+            return plans.size();
         }
 
         private void writeProperty(PropertyWriter prop, String propName, Object propValue,
@@ -181,100 +403,149 @@ public class JsonViewExtBeanSerializerModifier extends BeanSerializerModifier {
             provider.defaultSerializeValue(propValue, gen);
         }
 
-        private void serializeCollection(String propName, Collection<?> collection,
+        private void serializeCollection(FilterPlan.Entry entry, Collection<?> collection,
                                          JsonGenerator gen, SerializerProvider provider,
-                                         String basePath) throws IOException {
-            gen.writeFieldName(propName);
+                                         PathStack pathStack, PathNode childNode) throws IOException {
+            gen.writeFieldName(entry.getSerializedName());
             gen.writeStartArray();
 
-            for (Object item : collection) {
-                if (item == null) {
-                    gen.writeNull();
-                } else if (isComplexType(item.getClass())) {
-                    // 对于集合元素，路径使用集合属性名
-                    PathTracker.pushPath(basePath);
-                    try {
-                        provider.defaultSerializeValue(item, gen);
-                    } finally {
-                        PathTracker.popPath();
+            // 对于集合元素，路径使用集合属性名，整个集合只入栈一次
+            pathStack.push(childNode);
+            try {
+                Class<?> lastType = null;
+                JsonSerializer<Object> lastSerializer = null;
+                for (Object item : collection) {
+                    if (item == null) {
+                        gen.writeNull();
+                        continue;
                     }
-                } else {
-                    provider.defaultSerializeValue(item, gen);
+                    Class<?> type = item.getClass();
+                    if (type != lastType) {
+                        lastSerializer = entry.findElementSerializer(type, provider);
+                        lastType = type;
+                    }
+                    lastSerializer.serialize(item, gen, provider);
                 }
+            } finally {
+                pathStack.pop();
             }
 
             gen.writeEndArray();
         }
 
-        private void serializeArray(String propName, Object array,
+        private void serializeArray(FilterPlan.Entry entry, Object[] array,
                                     JsonGenerator gen, SerializerProvider provider,
-                                    String basePath) throws IOException {
-            gen.writeFieldName(propName);
+                                    PathStack pathStack, PathNode childNode) throws IOException {
+            gen.writeFieldName(entry.getSerializedName());
             gen.writeStartArray();
 
-            int length = java.lang.reflect.Array.getLength(array);
-            for (int i = 0; i < length; i++) {
-                Object item = java.lang.reflect.Array.get(array, i);
-                if (item == null) {
-                    gen.writeNull();
-                } else if (isComplexType(item.getClass())) {
-                    PathTracker.pushPath(basePath);
-                    try {
-                        provider.defaultSerializeValue(item, gen);
-                    } finally {
-                        PathTracker.popPath();
+            pathStack.push(childNode);
+            try {
+                Class<?> lastType = null;
+                JsonSerializer<Object> lastSerializer = null;
+                for (Object item : array) {
+                    if (item == null) {
+                        gen.writeNull();
+                        continue;
                     }
-                } else {
-                    provider.defaultSerializeValue(item, gen);
+                    Class<?> type = item.getClass();
+                    if (type != lastType) {
+                        lastSerializer = entry.findElementSerializer(type, provider);
+                        lastType = type;
+                    }
+                    lastSerializer.serialize(item, gen, provider);
                 }
+            } finally {
+                pathStack.pop();
             }
 
             gen.writeEndArray();
         }
 
-        private void serializeNestedObject(String propName, Object value,
+        /**
+         * 直接写入基本类型数组，避免逐个元素装箱；byte[] 与 Jackson 默认行为一致，输出为 Base64
+         */
+        private void serializePrimitiveArray(FilterPlan.Entry entry, Object array,
+                                             JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeFieldName(entry.getSerializedName());
+
+            if (array instanceof int[]) {
+                int[] values = (int[]) array;
+                gen.writeArray(values, 0, values.length);
+            } else if (array instanceof long[]) {
+                long[] values = (long[]) array;
+                gen.writeArray(values, 0, values.length);
+            } else if (array instanceof double[]) {
+                double[] values = (double[]) array;
+                gen.writeArray(values, 0, values.length);
+            } else if (array instanceof byte[]) {
+                byte[] values = (byte[]) array;
+                gen.writeBinary(provider.getConfig().getBase64Variant(), values, 0, values.length);
+            } else if (array instanceof float[]) {
+                gen.writeStartArray();
+                for (float value : (float[]) array) {
+                    gen.writeNumber(value);
+                }
+                gen.writeEndArray();
+            } else if (array instanceof short[]) {
+                gen.writeStartArray();
+                for (short value : (short[]) array) {
+                    gen.writeNumber(value);
+                }
+                gen.writeEndArray();
+            } else if (array instanceof boolean[]) {
+                gen.writeStartArray();
+                for (boolean value : (boolean[]) array) {
+                    gen.writeBoolean(value);
+                }
+                gen.writeEndArray();
+            } else {
+                // char[] 保持逐个字符输出
+                char[] values = (char[]) array;
+                gen.writeStartArray();
+                for (int i = 0; i < values.length; i++) {
+                    gen.writeString(values, i, 1);
+                }
+                gen.writeEndArray();
+            }
+        }
+
+        private void serializeNestedObject(FilterPlan.Entry entry, Object bean, Object value,
                                            JsonGenerator gen, SerializerProvider provider,
-                                           String newPath) throws IOException {
-            gen.writeFieldName(propName);
-            PathTracker.pushPath(newPath);
+                                           PathStack pathStack, PathNode childNode) throws Exception {
+            pathStack.push(childNode);
             try {
-                provider.defaultSerializeValue(value, gen);
+                entry.serializeAsField(bean, value, gen, provider);
             } finally {
-                PathTracker.popPath();
+                pathStack.pop();
             }
         }
-
-        private boolean isComplexType(Class<?> clazz) {
-            return !clazz.isPrimitive()
-                    && !clazz.getName().startsWith("java.lang")
-                    && !clazz.getName().startsWith("java.math")
-                    && !clazz.getName().startsWith("java.time")
-                    && !clazz.isEnum()
-                    && !Number.class.isAssignableFrom(clazz)
-                    && !CharSequence.class.isAssignableFrom(clazz)
-                    && !Date.class.isAssignableFrom(clazz);
-        }
     }
 
     /**
-     * 路径追踪器
+     * 路径追踪器，记录当前线程所在的路径节点
      */
     public static class PathTracker {
-        private static final ThreadLocal<Deque<String>> PATH_STACK =
-                ThreadLocal.withInitial(ArrayDeque::new);
+        private static final ThreadLocal<PathStack> PATH_STACK =
+                ThreadLocal.withInitial(PathStack::new);
+
+        public static PathStack getPathStack() {
+            return PATH_STACK.get();
+        }
 
-        public static void pushPath(String path) {
-            PATH_STACK.get().push(path);
+        public static void pushPath(PathNode node) {
+            PATH_STACK.get().push(node);
         }
 
-        public static String popPath() {
-            Deque<String> stack = PATH_STACK.get();
-            return stack.isEmpty() ? "" : stack.pop();
+        public static PathNode popPath() {
+            return PATH_STACK.get().pop();
         }
 
-        public static String getCurrentPath() {
-            Deque<String> stack = PATH_STACK.get();
-            return stack.isEmpty() ? "" : stack.peek();
+        /**
+         * 获取当前路径节点，位于根对象时返回 null
+         */
+        public static PathNode getCurrentNode() {
+            return PATH_STACK.get().peek();
         }
 
         public static void clear() {
@@ -282,6 +553,7 @@ public class JsonViewExtBeanSerializerModifier extends BeanSerializerModifier {
         }
 
         public static void reset() {
+            PATH_STACK.get().flushCounters();
             PATH_STACK.remove();
         }
     }
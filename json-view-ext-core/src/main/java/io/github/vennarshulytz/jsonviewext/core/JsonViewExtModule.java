@@ -1,6 +1,8 @@
 package io.github.vennarshulytz.jsonviewext.core;
 
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+import io.github.vennarshulytz.jsonviewext.sensitive.MaskedValueCache;
 
 /**
  * Jackson Module，注册自定义序列化修改器
@@ -14,14 +16,52 @@ public class JsonViewExtModule extends SimpleModule {
 
     private static final long serialVersionUID = 1L;
 
+    private final transient MaskedValueCache maskedValueCache;
+
+    private boolean generatedAccessors = false;
+
+    private transient FilterContext context;
+
     public JsonViewExtModule() {
+        this(null);
+    }
+
+    /**
+     * @param maskedValueCache 脱敏结果缓存，为 null 时不缓存
+     * @since 1.2.0
+     */
+    public JsonViewExtModule(MaskedValueCache maskedValueCache) {
         super(MODULE_NAME);
+        this.maskedValueCache = maskedValueCache;
+    }
+
+    /**
+     * 设置是否为被过滤属性的 getter 生成直接调用的访问器，需在注册模块前设置
+     *
+     * @since 1.2.0
+     */
+    public JsonViewExtModule setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+        return this;
+    }
+
+    /**
+     * 绑定过滤上下文，注册该模块的 ObjectMapper 只用于输出该上下文对应的视图
+     *
+     * @since 1.2.0
+     */
+    public JsonViewExtModule setContext(FilterContext context) {
+        this.context = context;
+        return this;
     }
 
     @Override
-    public void setupModule(SetupContext context) {
-        super.setupModule(context);
-        context.addBeanSerializerModifier(new JsonViewExtBeanSerializerModifier());
+    public void setupModule(SetupContext setupContext) {
+        super.setupModule(setupContext);
+        JsonViewExtBeanSerializerModifier modifier = new JsonViewExtBeanSerializerModifier(maskedValueCache);
+        modifier.setGeneratedAccessors(generatedAccessors);
+        modifier.setContext(context);
+        setupContext.addBeanSerializerModifier(modifier);
     }
 }
 
@@ -0,0 +1,129 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import io.github.vennarshulytz.jsonviewext.model.PathNode;
+import io.github.vennarshulytz.jsonviewext.sensitive.MaskedValueCache;
+
+import java.util.Arrays;
+
+/**
+ * 路径节点栈，记录序列化过程中当前所在的路径节点
+ * <p>
+ * 非线程安全，每次序列化独占一个实例
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class PathStack {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * 脱敏缓冲区的最大保留长度，超长的值不使用缓冲区，避免长期占用大数组
+     */
+    private static final int MAX_SCRATCH_LENGTH = 8192;
+    private static final int MIN_SCRATCH_LENGTH = 64;
+
+    /**
+     * 累计的过滤计划命中达到该值时提前汇总，未调用 {@link #clear()} 的调用方计数也不会无限滞后
+     */
+    private static final int PLAN_HITS_FLUSH_THRESHOLD = 1024;
+
+    private PathNode[] nodes = new PathNode[INITIAL_CAPACITY];
+    private int size;
+    private char[] scratch;
+    private MaskedValueCache maskedValueCache;
+    private SerializationStats stats;
+    private int planHits;
+
+    public void push(PathNode node) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size << 1);
+        }
+        nodes[size++] = node;
+    }
+
+    public PathNode pop() {
+        if (size == 0) {
+            return null;
+        }
+        PathNode node = nodes[--size];
+        nodes[size] = null;
+        return node;
+    }
+
+    /**
+     * 获取当前路径节点，位于根对象时返回 null
+     */
+    public PathNode peek() {
+        return size == 0 ? null : nodes[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取可复用的字符缓冲区，长度超过上限时返回 null
+     */
+    public char[] scratch(int minLength) {
+        if (minLength > MAX_SCRATCH_LENGTH) {
+            return null;
+        }
+        char[] buffer = scratch;
+        if (buffer == null || buffer.length < minLength) {
+            int capacity = Math.max(MIN_SCRATCH_LENGTH, Integer.highestOneBit(minLength) << 1);
+            buffer = new char[Math.min(MAX_SCRATCH_LENGTH, capacity)];
+            scratch = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * 获取单次序列化作用域的脱敏结果缓存
+     */
+    public MaskedValueCache getMaskedValueCache() {
+        return maskedValueCache;
+    }
+
+    public void setMaskedValueCache(MaskedValueCache maskedValueCache) {
+        this.maskedValueCache = maskedValueCache;
+    }
+
+    /**
+     * 获取本次序列化的计数，未启用指标时为 null
+     */
+    public SerializationStats getStats() {
+        return stats;
+    }
+
+    public void setStats(SerializationStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * 记录一次过滤计划缓存命中
+     */
+    public void planHit() {
+        if (++planHits >= PLAN_HITS_FLUSH_THRESHOLD) {
+            flushCounters();
+        }
+    }
+
+    /**
+     * 将累计的过滤计划命中汇总到 {@link FilterPlanCache}，序列化结束时调用
+     */
+    public void flushCounters() {
+        if (planHits > 0) {
+            FilterPlanCache.hit(planHits);
+            planHits = 0;
+        }
+    }
+
+    public void clear() {
+        flushCounters();
+        Arrays.fill(nodes, 0, size, null);
+        size = 0;
+        maskedValueCache = null;
+        stats = null;
+    }
+}
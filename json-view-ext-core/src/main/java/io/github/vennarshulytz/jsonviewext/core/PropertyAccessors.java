@@ -0,0 +1,89 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * 属性访问器生成工具，通过 {@link LambdaMetafactory} 为 getter 方法生成直接调用的访问器，替代反射调用
+ * <p>
+ * 只处理公共类上的公共实例 getter，且类型必须对当前类加载器可见；其余情况返回 null，由调用方回退到
+ * {@link BeanPropertyWriter#get(Object)}
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+final class PropertyAccessors {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyAccessors.class);
+
+    private static final MethodType FUNCTION_FACTORY = MethodType.methodType(Function.class);
+    private static final MethodType APPLY = MethodType.methodType(Object.class, Object.class);
+
+    private PropertyAccessors() {
+    }
+
+    /**
+     * 生成属性访问器，无法生成时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> generate(BeanPropertyWriter writer) {
+        AnnotatedMember member = writer.getMember();
+        Member accessor = member != null ? member.getMember() : null;
+        if (!(accessor instanceof Method)) {
+            return null;
+        }
+        Method method = (Method) accessor;
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (method.getParameterCount() != 0
+                || method.getReturnType() == void.class
+                || Modifier.isStatic(method.getModifiers())
+                || !Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(declaringClass.getModifiers())
+                || !isVisible(declaringClass)
+                || !isVisible(method.getReturnType())) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", FUNCTION_FACTORY, APPLY,
+                    handle, handle.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            log.debug("Failed to generate accessor for {}, falling back to reflection", method, e);
+            return null;
+        }
+    }
+
+    /**
+     * 生成的访问器定义在当前类加载器中，只能引用对其可见的类型
+     */
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, PropertyAccessors.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+/**
+ * 一个处理方法下单个 (Bean 类型, 属性) 的累计写出开销快照，耗时和字节数包含嵌套对象的写出
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class PropertyCost {
+
+    private final Class<?> beanClass;
+    private final String property;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p99Nanos;
+    private final long totalBytes;
+
+    public PropertyCost(Class<?> beanClass, String property, long count, long totalNanos, long maxNanos,
+                        long p99Nanos, long totalBytes) {
+        this.beanClass = beanClass;
+        this.property = property;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.p99Nanos = p99Nanos;
+        this.totalBytes = totalBytes;
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * 采样到的写出次数
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * 按 2 的幂分桶的直方图估算的 99 分位耗时（桶上界）
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getMeanBytes() {
+        return count == 0 ? 0 : totalBytes / count;
+    }
+
+    @Override
+    public String toString() {
+        return beanClass.getSimpleName() + "." + property +
+                " count=" + count +
+                " total=" + totalNanos / 1000 + "us" +
+                " mean=" + getMeanNanos() + "ns" +
+                " p99<=" + p99Nanos + "ns" +
+                " max=" + maxNanos + "ns" +
+                " bytes=" + totalBytes;
+    }
+}
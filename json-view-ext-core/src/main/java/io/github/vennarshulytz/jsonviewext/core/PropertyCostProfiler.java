@@ -0,0 +1,257 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 按属性统计过滤序列化开销的采样分析器：每 N 次过滤序列化随机采样一次，记录每个 (Bean 类型, 属性) 的耗时和写出字节数，
+ * 按处理方法汇总，用于找出值得排除或预先计算的 getter
+ * <p>
+ * 汇总使用 {@link LongAdder} 和按 2 的幂分桶的原子直方图，不加锁；采样的序列化在请求内的 {@link PropertyProfile}
+ * 中累计，结束后每个属性只合并一次。设置了日志间隔时，合并后按间隔输出开销最高的属性
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class PropertyCostProfiler {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyCostProfiler.class);
+
+    /**
+     * 直方图桶数，第 i 个桶记录 [2^(i-1), 2^i) 纳秒的耗时
+     */
+    static final int BUCKETS = 64;
+
+    private final int sampleInterval;
+    private final int topK;
+    private final long logIntervalNanos;
+    private final AtomicLong lastLog = new AtomicLong(System.nanoTime());
+
+    private final Map<Method, HandlerCosts> handlers = new ConcurrentHashMap<>();
+
+    /**
+     * @param sampleInterval 平均每多少次序列化采样一次，1 表示全部采样
+     * @param topK           报告中每个处理方法列出的属性数
+     * @param logInterval    输出报告日志的间隔，0 表示不输出
+     * @param unit           logInterval 的单位
+     */
+    public PropertyCostProfiler(int sampleInterval, int topK, long logInterval, TimeUnit unit) {
+        if (sampleInterval <= 0) {
+            throw new IllegalArgumentException("sampleInterval must be positive");
+        }
+        if (topK <= 0) {
+            throw new IllegalArgumentException("topK must be positive");
+        }
+        this.sampleInterval = sampleInterval;
+        this.topK = topK;
+        this.logIntervalNanos = logInterval > 0 ? unit.toNanos(logInterval) : 0L;
+    }
+
+    /**
+     * 判断本次序列化是否采样
+     */
+    public boolean shouldSample() {
+        return sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+    }
+
+    /**
+     * 创建本次采样使用的记录，通过 {@link SerializationStats#setPropertyProfile} 交给序列化器
+     *
+     * @param flushedBytes 已写入底层输出流的字节数，为 null 时只按生成器缓冲区的变化估算
+     */
+    public PropertyProfile newProfile(LongSupplier flushedBytes) {
+        return new PropertyProfile(flushedBytes);
+    }
+
+    /**
+     * 合并一次采样的结果
+     *
+     * @param handlerMethod 输出该响应的处理方法
+     * @param profile       本次采样的记录
+     */
+    public void merge(Method handlerMethod, PropertyProfile profile) {
+        HandlerCosts costs = handlers.computeIfAbsent(handlerMethod, m -> new HandlerCosts());
+        costs.requests.increment();
+        for (PropertyProfile.Sample sample : profile.getSamples()) {
+            costs.properties.computeIfAbsent(new PropertyKey(sample.beanClass, sample.property), Costs::new)
+                    .merge(sample);
+        }
+        if (logIntervalNanos > 0) {
+            long last = lastLog.get();
+            long now = System.nanoTime();
+            if (now - last >= logIntervalNanos && lastLog.compareAndSet(last, now) && log.isInfoEnabled()) {
+                log.info("Most expensive filtered properties:\n{}", report());
+            }
+        }
+    }
+
+    /**
+     * 处理方法下总耗时最高的 k 个属性
+     */
+    public List<PropertyCost> getTopProperties(Method handlerMethod, int k) {
+        HandlerCosts costs = handlers.get(handlerMethod);
+        if (costs == null) {
+            return new ArrayList<>();
+        }
+        List<PropertyCost> properties = new ArrayList<>();
+        for (Costs property : costs.properties.values()) {
+            properties.add(property.snapshot());
+        }
+        properties.sort(Comparator.comparingLong(PropertyCost::getTotalNanos).reversed());
+        return properties.size() > k ? new ArrayList<>(properties.subList(0, k)) : properties;
+    }
+
+    /**
+     * 每个处理方法下总耗时最高的 topK 个属性
+     */
+    public Map<Method, List<PropertyCost>> getTopProperties() {
+        Map<Method, List<PropertyCost>> top = new LinkedHashMap<>();
+        for (Method method : handlers.keySet()) {
+            top.put(method, getTopProperties(method, topK));
+        }
+        return top;
+    }
+
+    /**
+     * 处理方法被采样的序列化次数
+     */
+    public long getSampledRequests(Method handlerMethod) {
+        HandlerCosts costs = handlers.get(handlerMethod);
+        return costs != null ? costs.requests.sum() : 0;
+    }
+
+    /**
+     * 生成可读的报告：每个处理方法的采样次数和开销最高的 topK 个属性
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<Method, List<PropertyCost>> entry : getTopProperties().entrySet()) {
+            Method method = entry.getKey();
+            report.append(method.getDeclaringClass().getSimpleName()).append('#').append(method.getName())
+                    .append(" (").append(getSampledRequests(method)).append(" sampled)\n");
+            for (PropertyCost cost : entry.getValue()) {
+                report.append("  ").append(cost).append('\n');
+            }
+        }
+        return report.toString();
+    }
+
+    public void reset() {
+        handlers.clear();
+    }
+
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    static int bucket(long nanos) {
+        return nanos <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static final class HandlerCosts {
+
+        private final LongAdder requests = new LongAdder();
+        private final Map<PropertyKey, Costs> properties = new ConcurrentHashMap<>();
+    }
+
+    private static final class PropertyKey {
+
+        private final Class<?> beanClass;
+        private final String property;
+
+        PropertyKey(Class<?> beanClass, String property) {
+            this.beanClass = beanClass;
+            this.property = property;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PropertyKey)) {
+                return false;
+            }
+            PropertyKey that = (PropertyKey) o;
+            return beanClass == that.beanClass && property.equals(that.property);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(beanClass, property);
+        }
+    }
+
+    /**
+     * 单个属性的累计开销
+     */
+    private static final class Costs {
+
+        private final PropertyKey key;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        Costs(PropertyKey key) {
+            this.key = key;
+        }
+
+        void merge(PropertyProfile.Sample sample) {
+            count.add(sample.count);
+            nanos.add(sample.nanos);
+            bytes.add(sample.bytes);
+            maxNanos.accumulate(sample.maxNanos);
+            for (int i = 0; i < BUCKETS; i++) {
+                if (sample.buckets[i] != 0) {
+                    buckets.addAndGet(i, sample.buckets[i]);
+                }
+            }
+        }
+
+        PropertyCost snapshot() {
+            return new PropertyCost(key.beanClass, key.property, count.sum(), nanos.sum(), maxNanos.get(),
+                    percentile(0.99), bytes.sum());
+        }
+
+        /**
+         * 按直方图估算分位数，返回所在桶的上界
+         */
+        private long percentile(double quantile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += buckets.get(i);
+            }
+            long threshold = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (total > 0 && seen >= threshold) {
+                    return i == 0 ? 0 : (i >= 63 ? Long.MAX_VALUE : 1L << i);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 单次被采样的过滤序列化中各属性的耗时和写出字节数
+ * <p>
+ * 与 {@link SerializationStats} 一样由一次序列化独占，非线程安全，序列化结束后由
+ * {@link PropertyCostProfiler#merge} 汇总。耗时和字节数包含嵌套对象的写出
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class PropertyProfile {
+
+    private final LongSupplier flushedBytes;
+    private final Map<FilterPlan.Entry, Sample> samples = new IdentityHashMap<>();
+
+    /**
+     * @param flushedBytes 已写入底层输出流的字节数，为 null 时只按生成器缓冲区的变化估算
+     */
+    public PropertyProfile(LongSupplier flushedBytes) {
+        this.flushedBytes = flushedBytes;
+    }
+
+    /**
+     * 当前已输出的字节数：已写入底层输出流的字节数加上生成器缓冲区中的字节数
+     */
+    long bytesWritten(JsonGenerator gen) {
+        long buffered = Math.max(gen.getOutputBuffered(), 0);
+        return flushedBytes != null ? flushedBytes.getAsLong() + buffered : buffered;
+    }
+
+    void record(Class<?> beanClass, FilterPlan.Entry entry, long nanos, long bytes) {
+        Sample sample = samples.get(entry);
+        if (sample == null) {
+            sample = new Sample(beanClass, entry.getName());
+            samples.put(entry, sample);
+        }
+        sample.record(nanos, Math.max(bytes, 0));
+    }
+
+    Collection<Sample> getSamples() {
+        return new ArrayList<>(samples.values());
+    }
+
+    /**
+     * 单个属性在本次序列化中的累计值
+     */
+    static final class Sample {
+
+        final Class<?> beanClass;
+        final String property;
+        final long[] buckets = new long[PropertyCostProfiler.BUCKETS];
+        long count;
+        long nanos;
+        long maxNanos;
+        long bytes;
+
+        Sample(Class<?> beanClass, String property) {
+            this.beanClass = beanClass;
+            this.property = property;
+        }
+
+        void record(long nanos, long bytes) {
+            count++;
+            this.nanos += nanos;
+            this.maxNanos = Math.max(this.maxNanos, nanos);
+            this.bytes += bytes;
+            buckets[PropertyCostProfiler.bucket(nanos)]++;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import java.lang.reflect.Method;
+
+/**
+ * 过滤序列化的指标记录器，每次过滤序列化结束后调用一次
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public interface SerializationRecorder {
+
+    /**
+     * @param handlerMethod 输出该响应的处理方法，未知时为 null
+     * @param nanos         序列化耗时（纳秒）
+     * @param bytes         写出的字节数
+     * @param stats         本次序列化的计数
+     */
+    void record(Method handlerMethod, long nanos, long bytes, SerializationStats stats);
+
+    /**
+     * 记录一次影子测量：同一数据分别进行过滤输出和不过滤输出的大小和耗时，不过滤的输出直接丢弃，默认不处理
+     *
+     * @param handlerMethod   输出该响应的处理方法
+     * @param filteredNanos   过滤序列化耗时（纳秒）
+     * @param filteredBytes   过滤输出的字节数
+     * @param unfilteredNanos 不过滤序列化耗时（纳秒）
+     * @param unfilteredBytes 不过滤输出的字节数
+     */
+    default void recordShadow(Method handlerMethod, long filteredNanos, long filteredBytes,
+                              long unfilteredNanos, long unfilteredBytes) {
+    }
+}
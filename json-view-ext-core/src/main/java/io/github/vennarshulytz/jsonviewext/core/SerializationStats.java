@@ -0,0 +1,76 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+/**
+ * 单次过滤序列化的计数：过滤的 Bean 数、被过滤掉的属性数、脱敏的属性数以及回退到默认写入的错误数
+ * <p>
+ * 非线程安全，与 {@link PathStack} 一样每次序列化独占一个实例，序列化结束后由调用方一次性汇总到共享的指标中，
+ * 序列化过程中不产生跨线程的竞争
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class SerializationStats {
+
+    private long beansFiltered;
+    private long fieldsDropped;
+    private long fieldsMasked;
+    private long beansMasked;
+    private long fallbackErrors;
+    private PropertyProfile propertyProfile;
+
+    /**
+     * 记录一个按规则过滤输出的 Bean
+     *
+     * @param dropped 该 Bean 被过滤掉的属性数
+     */
+    public void beanFiltered(int dropped) {
+        beansFiltered++;
+        fieldsDropped += dropped;
+    }
+
+    public void fieldMasked() {
+        fieldsMasked++;
+    }
+
+    /**
+     * 记录一个至少有一个属性被脱敏的 Bean
+     */
+    public void beanMasked() {
+        beansMasked++;
+    }
+
+    public void fallbackError() {
+        fallbackErrors++;
+    }
+
+    public long getBeansFiltered() {
+        return beansFiltered;
+    }
+
+    public long getFieldsDropped() {
+        return fieldsDropped;
+    }
+
+    public long getFieldsMasked() {
+        return fieldsMasked;
+    }
+
+    public long getBeansMasked() {
+        return beansMasked;
+    }
+
+    public long getFallbackErrors() {
+        return fallbackErrors;
+    }
+
+    /**
+     * 本次序列化的按属性开销记录，未被 {@link PropertyCostProfiler} 采样时为 null
+     */
+    public PropertyProfile getPropertyProfile() {
+        return propertyProfile;
+    }
+
+    public void setPropertyProfile(PropertyProfile propertyProfile) {
+        this.propertyProfile = propertyProfile;
+    }
+}
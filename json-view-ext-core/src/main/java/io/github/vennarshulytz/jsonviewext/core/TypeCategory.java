@@ -0,0 +1,87 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * 值类型分类，按运行时类型缓存，每个类只计算一次
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public enum TypeCategory {
+
+    /**
+     * 基本类型、包装类型、字符串、枚举、日期等简单值
+     */
+    SCALAR,
+
+    /**
+     * 普通 Java Bean
+     */
+    BEAN,
+
+    /**
+     * 集合
+     */
+    COLLECTION,
+
+    /**
+     * Map
+     */
+    MAP,
+
+    /**
+     * 基本类型数组
+     */
+    PRIMITIVE_ARRAY,
+
+    /**
+     * 对象数组
+     */
+    OBJECT_ARRAY;
+
+    private static final ClassValue<TypeCategory> CACHE = new ClassValue<TypeCategory>() {
+        @Override
+        protected TypeCategory computeValue(Class<?> type) {
+            return classify(type);
+        }
+    };
+
+    /**
+     * 获取类型分类
+     */
+    public static TypeCategory of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * 是否为需要追踪路径的复杂类型
+     */
+    public boolean isComplex() {
+        return this != SCALAR;
+    }
+
+    private static TypeCategory classify(Class<?> clazz) {
+        if (Collection.class.isAssignableFrom(clazz)) {
+            return COLLECTION;
+        }
+        if (clazz.isArray()) {
+            return clazz.getComponentType().isPrimitive() ? PRIMITIVE_ARRAY : OBJECT_ARRAY;
+        }
+        if (Map.class.isAssignableFrom(clazz)) {
+            return MAP;
+        }
+        String name = clazz.getName();
+        boolean scalar = clazz.isPrimitive()
+                || name.startsWith("java.lang")
+                || name.startsWith("java.math")
+                || name.startsWith("java.time")
+                || clazz.isEnum()
+                || Number.class.isAssignableFrom(clazz)
+                || CharSequence.class.isAssignableFrom(clazz)
+                || Date.class.isAssignableFrom(clazz);
+        return scalar ? SCALAR : BEAN;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link FilterRuleRegistry} 中已解析视图的快照
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class ViewStats {
+
+    private final Method method;
+    private final FilterContext context;
+    private final long uses;
+    private final long estimatedSize;
+
+    public ViewStats(Method method, FilterContext context, long uses, long estimatedSize) {
+        this.method = method;
+        this.context = context;
+        this.uses = uses;
+        this.estimatedSize = estimatedSize;
+    }
+
+    /**
+     * 视图所属的处理方法
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    public FilterContext getContext() {
+        return context;
+    }
+
+    /**
+     * 解析后获取该视图的次数
+     */
+    public long getUses() {
+        return uses;
+    }
+
+    /**
+     * 规则及查找表占用内存的粗略估算（字节），不含共享的 Class 和脱敏处理器实例
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public String toString() {
+        return "ViewStats{" +
+                "method=" + method +
+                ", rules=" + context.getRules().size() +
+                ", uses=" + uses +
+                ", estimatedSize=" + estimatedSize +
+                '}';
+    }
+}
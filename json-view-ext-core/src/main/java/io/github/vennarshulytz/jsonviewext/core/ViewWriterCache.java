@@ -0,0 +1,164 @@
+package io.github.vennarshulytz.jsonviewext.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 视图专用 ObjectWriter 缓存
+ * <p>
+ * 每个已冻结的 {@link FilterContext} 对应一个绑定了该上下文的 ObjectMapper 副本：不是规则目标的类型直接使用
+ * Jackson 默认序列化器，目标类型的序列化器不再从线程本地变量读取上下文；每种根类型缓存一个预取了根序列化器的
+ * ObjectWriter。上下文按引用区分，{@link FilterRuleRegistry} 为每个方法缓存同一个上下文实例
+ * <p>
+ * 每个视图持有一个完整的 ObjectMapper 副本，副本为视图涉及的每个类型单独构建并缓存序列化器，
+ * 占用的内存与视图数成正比；视图数超过上限时淘汰最久未使用的视图，每个视图缓存的根类型数同样有上限
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class ViewWriterCache {
+
+    /**
+     * 缓存名称
+     */
+    public static final String CACHE_NAME = "view-writers";
+
+    /**
+     * 默认最多缓存的视图数
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    /**
+     * 每个视图最多缓存的根类型数，超出后新的根类型每次创建 ObjectWriter
+     */
+    private static final int MAX_WRITERS_PER_VIEW = 64;
+
+    private final ObjectMapper baseMapper;
+    private final Supplier<JsonViewExtModule> moduleFactory;
+    private final int maxSize;
+
+    private final Map<FilterContext, View> views = new ConcurrentHashMap<>();
+    private final CacheCounters counters = new CacheCounters();
+
+    /**
+     * @param baseMapper    未注册 {@link JsonViewExtModule} 的 ObjectMapper，每个视图使用它的副本
+     * @param moduleFactory 创建视图使用的模块，缓存等配置应与过滤 ObjectMapper 一致
+     */
+    public ViewWriterCache(ObjectMapper baseMapper, Supplier<JsonViewExtModule> moduleFactory) {
+        this(baseMapper, moduleFactory, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param baseMapper    未注册 {@link JsonViewExtModule} 的 ObjectMapper，每个视图使用它的副本
+     * @param moduleFactory 创建视图使用的模块，缓存等配置应与过滤 ObjectMapper 一致
+     * @param maxSize       最多缓存的视图数，超出时淘汰最久未使用的视图
+     */
+    public ViewWriterCache(ObjectMapper baseMapper, Supplier<JsonViewExtModule> moduleFactory, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.baseMapper = baseMapper;
+        this.moduleFactory = moduleFactory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 获取视图专用的 ObjectWriter，上下文未冻结时返回 null
+     */
+    public ObjectWriter getWriter(FilterContext context, Class<?> rootType) {
+        if (!context.isFrozen()) {
+            return null;
+        }
+        View view = views.get(context);
+        if (view != null) {
+            counters.hit();
+            view.lastUsed = System.nanoTime();
+        } else {
+            counters.miss();
+            view = views.computeIfAbsent(context, this::createView);
+            evictIfFull();
+        }
+        return view.getWriter(rootType);
+    }
+
+    /**
+     * 视图数超过上限时淘汰最久未使用的视图，只在新建视图时执行
+     */
+    private void evictIfFull() {
+        while (views.size() > maxSize) {
+            Map.Entry<FilterContext, View> eldest = null;
+            for (Map.Entry<FilterContext, View> entry : views.entrySet()) {
+                if (eldest == null || entry.getValue().lastUsed - eldest.getValue().lastUsed < 0) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null || !views.remove(eldest.getKey(), eldest.getValue())) {
+                return;
+            }
+            counters.evicted(1);
+        }
+    }
+
+    private View createView(FilterContext context) {
+        ObjectMapper mapper = baseMapper.copy();
+        mapper.registerModule(moduleFactory.get().setContext(context));
+        return new View(mapper);
+    }
+
+    /**
+     * 已缓存的视图数量
+     */
+    public int size() {
+        return views.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void clear() {
+        counters.evicted(views.size());
+        views.clear();
+    }
+
+    /**
+     * 获取缓存状态的快照，以视图为单位计数
+     */
+    public CacheStats getStats() {
+        return counters.snapshot(CACHE_NAME, views.size());
+    }
+
+    private static final class View {
+
+        private final ObjectMapper mapper;
+        private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        /**
+         * 最近一次使用的时间（System.nanoTime），用于淘汰
+         */
+        private volatile long lastUsed = System.nanoTime();
+
+        View(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        ObjectWriter getWriter(Class<?> rootType) {
+            ObjectWriter writer = writers.get(rootType);
+            if (writer == null) {
+                writer = mapper.writerFor(rootType);
+                if (writers.size() < MAX_WRITERS_PER_VIEW) {
+                    ObjectWriter existing = writers.putIfAbsent(rootType, writer);
+                    if (existing != null) {
+                        writer = existing;
+                    }
+                }
+            }
+            return writer;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.vennarshulytz.jsonviewext.jfr;
+
+import io.github.vennarshulytz.jsonviewext.core.SerializationStats;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.lang.reflect.Method;
+
+/**
+ * 一次过滤响应的写出
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@Name(JsonViewExtEvents.PREFIX + "FilteredWrite")
+@Label("Filtered Write")
+@Category(JsonViewExtEvents.CATEGORY)
+@Description("Serialization of a response through @JsonViewExt filter rules")
+@Threshold("10 ms")
+@StackTrace(false)
+public class FilteredWriteEvent extends jdk.jfr.Event {
+
+    @Label("Handler Class")
+    private Class<?> handlerClass;
+
+    @Label("Handler Method")
+    private String handlerMethod;
+
+    @Label("Root Type")
+    private Class<?> rootType;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytes;
+
+    @Label("Beans Filtered")
+    @Description("Beans written through a filter rule; beans of types no rule targets are delegated to Jackson "
+            + "and not counted")
+    private long beansFiltered;
+
+    @Label("Fields Masked")
+    private long fieldsMasked;
+
+    /**
+     * 结束并在满足阈值时提交事件
+     *
+     * @param method 输出该响应的处理方法，未知时为 null
+     * @param data   输出的数据
+     * @param bytes  写出的字节数
+     * @param stats  本次序列化的计数
+     */
+    public void finish(Method method, Object data, long bytes, SerializationStats stats) {
+        end();
+        if (shouldCommit()) {
+            if (method != null) {
+                this.handlerClass = method.getDeclaringClass();
+                this.handlerMethod = method.getName();
+            }
+            this.rootType = data != null ? data.getClass() : null;
+            this.bytes = bytes;
+            this.beansFiltered = stats.getBeansFiltered();
+            this.fieldsMasked = stats.getFieldsMasked();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.vennarshulytz.jsonviewext.jfr;
+
+/**
+ * JsonViewExt 的 Java Flight Recorder 事件入口
+ * <ul>
+ *     <li>{@link ViewCompilationEvent}：解析处理方法的过滤规则</li>
+ *     <li>{@link FilteredWriteEvent}：一次过滤响应的写出</li>
+ *     <li>{@link MaskingEvent}：一次过滤响应中的脱敏汇总</li>
+ * </ul>
+ * 各 begin 方法在事件未启用或运行环境不支持 JFR（如 8u262 之前的 Java 8）时返回 null，调用方据此跳过统计。
+ * 事件的阈值等设置与 JDK 内置事件一样通过 .jfc 配置或 {@code Recording#enable(String)} 调整
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class JsonViewExtEvents {
+
+    /**
+     * 事件名前缀
+     */
+    public static final String PREFIX = "io.github.vennarshulytz.jsonviewext.";
+
+    /**
+     * 事件分类
+     */
+    public static final String CATEGORY = "JsonViewExt";
+
+    private static final boolean AVAILABLE = isJfrAvailable();
+
+    private JsonViewExtEvents() {
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JsonViewExtEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * 开始记录规则解析，事件未启用时返回 null
+     */
+    public static ViewCompilationEvent beginViewCompilation() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        ViewCompilationEvent event = new ViewCompilationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 开始记录过滤响应的写出，事件未启用时返回 null
+     */
+    public static FilteredWriteEvent beginFilteredWrite() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        FilteredWriteEvent event = new FilteredWriteEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 开始记录包含脱敏属性的对象的写出，事件未启用时返回 null
+     */
+    public static MaskingEvent beginMasking() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        MaskingEvent event = new MaskingEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.vennarshulytz.jsonviewext.jfr;
+
+import io.github.vennarshulytz.jsonviewext.core.SerializationStats;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.lang.reflect.Method;
+
+/**
+ * 一次过滤响应中的脱敏汇总，只在有属性被脱敏时提交，耗时为整个响应的写出
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@Name(JsonViewExtEvents.PREFIX + "Masking")
+@Label("Masking")
+@Category(JsonViewExtEvents.CATEGORY)
+@Description("Masked properties of one filtered response")
+@Threshold("1 ms")
+@StackTrace(false)
+public class MaskingEvent extends jdk.jfr.Event {
+
+    @Label("Handler Class")
+    private Class<?> handlerClass;
+
+    @Label("Handler Method")
+    private String handlerMethod;
+
+    @Label("Beans Masked")
+    @Description("Filtered beans with at least one masked property")
+    private long beansMasked;
+
+    @Label("Fields Masked")
+    private long fieldsMasked;
+
+    /**
+     * 结束并在有属性被脱敏且满足阈值时提交事件
+     *
+     * @param method 输出该响应的处理方法，未知时为 null
+     * @param stats  本次序列化的计数
+     */
+    public void finish(Method method, SerializationStats stats) {
+        end();
+        if (stats.getFieldsMasked() > 0 && shouldCommit()) {
+            if (method != null) {
+                this.handlerClass = method.getDeclaringClass();
+                this.handlerMethod = method.getName();
+            }
+            this.beansMasked = stats.getBeansMasked();
+            this.fieldsMasked = stats.getFieldsMasked();
+            commit();
+        }
+    }
+}
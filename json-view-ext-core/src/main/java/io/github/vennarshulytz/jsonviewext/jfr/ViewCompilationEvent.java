@@ -0,0 +1,48 @@
+package io.github.vennarshulytz.jsonviewext.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import java.lang.reflect.Method;
+
+/**
+ * 解析处理方法过滤规则的事件，每个方法只在首次使用时解析一次
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@Name(JsonViewExtEvents.PREFIX + "ViewCompilation")
+@Label("View Compilation")
+@Category(JsonViewExtEvents.CATEGORY)
+@Description("Parsing of the @JsonViewExt filter rules of a handler method")
+@Threshold("0 ms")
+public class ViewCompilationEvent extends jdk.jfr.Event {
+
+    @Label("Handler Class")
+    private Class<?> handlerClass;
+
+    @Label("Handler Method")
+    private String handlerMethod;
+
+    @Label("Rules")
+    private int rules;
+
+    /**
+     * 结束并在满足阈值时提交事件
+     *
+     * @param method 处理方法
+     * @param rules  解析出的规则数量
+     */
+    public void finish(Method method, int rules) {
+        end();
+        if (shouldCommit()) {
+            this.handlerClass = method.getDeclaringClass();
+            this.handlerMethod = method.getName();
+            this.rules = rules;
+            commit();
+        }
+    }
+}
@@ -2,6 +2,10 @@ package io.github.vennarshulytz.jsonviewext.model;
 
 import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -23,59 +27,141 @@ public class FilterContext {
      */
     private final Map<Class<?>, Map<String, FilterRule>> excludeRules;
 
+    /**
+     * 规则查找索引，首次使用时构建，规则变更后重建
+     */
+    private volatile RuleIndex index;
+
+    /**
+     * 是否已冻结，冻结后不允许再添加规则
+     */
+    private volatile boolean frozen;
+
     public FilterContext() {
         this.includeRules = new ConcurrentHashMap<>();
         this.excludeRules = new ConcurrentHashMap<>();
     }
 
     public void addIncludeRule(FilterRule rule) {
+        checkNotFrozen();
         includeRules.computeIfAbsent(rule.getTargetClass(), k -> new ConcurrentHashMap<>())
                 .put(rule.getFieldPath(), rule);
+        index = null;
     }
 
     public void addExcludeRule(FilterRule rule) {
+        checkNotFrozen();
         excludeRules.computeIfAbsent(rule.getTargetClass(), k -> new ConcurrentHashMap<>())
                 .put(rule.getFieldPath(), rule);
+        index = null;
     }
 
     /**
-     * 获取适用的规则（优先匹配精确路径，其次匹配通用规则）
+     * 冻结上下文：构建合并后的规则查找表，之后不允许再添加规则
+     *
+     * @return 当前上下文
+     * @since 1.2.0
      */
-    public FilterRule getApplicableRule(Class<?> clazz, String currentPath) {
-        // 优先查找 include 规则
-        FilterRule includeRule = findMatchingRule(includeRules, clazz, currentPath);
-        if (includeRule != null) {
-            return includeRule;
+    public FilterContext freeze() {
+        getIndex();
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("FilterContext is frozen");
         }
+    }
 
-        // 其次查找 exclude 规则
-        return findMatchingRule(excludeRules, clazz, currentPath);
+    /**
+     * 获取路径字典树根节点
+     */
+    public PathNode getRootNode() {
+        return getIndex().root;
+    }
+
+    /**
+     * 判断类型是否为任一规则的目标类型，不是目标类型的 Bean 无需查找规则和追踪路径
+     *
+     * @since 1.2.0
+     */
+    public boolean isTargetClass(Class<?> clazz) {
+        return getIndex().targetClasses.containsKey(clazz);
     }
 
     /**
-     * 查找匹配的规则
+     * 获取所有规则，先 include 后 exclude
+     *
+     * @since 1.2.0
      */
-    private FilterRule findMatchingRule(Map<Class<?>, Map<String, FilterRule>> rulesMap,
-                                        Class<?> clazz, String currentPath) {
-        Map<String, FilterRule> classRules = rulesMap.get(clazz);
-        if (classRules == null || classRules.isEmpty()) {
-            return null;
+    public List<FilterRule> getRules() {
+        return getIndex().rules;
+    }
+
+    private RuleIndex getIndex() {
+        RuleIndex current = index;
+        if (current == null) {
+            current = new RuleIndex(this);
+            index = current;
         }
+        return current;
+    }
 
-        // 优先匹配精确路径
-        FilterRule exactMatch = classRules.get(currentPath);
-        if (exactMatch != null) {
-            return exactMatch;
+    private static List<FilterRule> flatten(Map<Class<?>, Map<String, FilterRule>> rulesMap) {
+        List<FilterRule> rules = new ArrayList<>();
+        for (Map<String, FilterRule> classRules : rulesMap.values()) {
+            rules.addAll(classRules.values());
         }
+        return rules;
+    }
+
+    /**
+     * 获取适用的规则（优先匹配精确路径，其次匹配通用规则）
+     */
+    public FilterRule getApplicableRule(Class<?> clazz, String currentPath) {
+        return getApplicableRule(clazz, getRootNode().find(currentPath));
+    }
 
-        // 查找通用规则（无路径）
-        return classRules.get("");
+    /**
+     * 获取路径节点上适用的规则（优先匹配精确路径，其次匹配通用规则）
+     */
+    public FilterRule getApplicableRule(Class<?> clazz, PathNode node) {
+        // 节点上的规则表已合并 include/exclude 与通用规则，不在规则路径上时只匹配通用规则
+        return (node.isDetached() ? getRootNode() : node).getRule(clazz);
     }
 
     public boolean hasRules() {
         return !includeRules.isEmpty() || !excludeRules.isEmpty();
     }
 
+    /**
+     * 由规则构建的只读查找索引
+     */
+    private static final class RuleIndex {
+
+        private final PathNode root;
+        private final List<FilterRule> rules;
+        private final Map<Class<?>, Boolean> targetClasses = new IdentityHashMap<>();
+
+        RuleIndex(FilterContext context) {
+            List<FilterRule> includes = flatten(context.includeRules);
+            List<FilterRule> excludes = flatten(context.excludeRules);
+            this.root = PathNode.build(includes, excludes);
+
+            List<FilterRule> all = new ArrayList<>(includes);
+            all.addAll(excludes);
+            this.rules = Collections.unmodifiableList(all);
+            for (FilterRule rule : all) {
+                targetClasses.put(rule.getTargetClass(), Boolean.TRUE);
+            }
+        }
+    }
+
     /**
      * 字段序列化结果
      */
@@ -1,6 +1,6 @@
 package io.github.vennarshulytz.jsonviewext.model;
 
-import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType ;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
 
 import java.util.*;
 
@@ -17,15 +17,28 @@ public class FilterRule {
     private final Set<String> props;
     private final boolean isInclude;
     private final Map<String, Class<? extends SensitiveType>> sensitiveProps;
+    private final Map<String, SensitiveType> sensitiveHandlers;
 
     public FilterRule(Class<?> targetClass, String fieldPath, Set<String> props,
                       boolean isInclude, Map<String, Class<? extends SensitiveType>> sensitiveProps) {
+        this(targetClass, fieldPath, props, isInclude, sensitiveProps, null);
+    }
+
+    /**
+     * @param sensitiveHandlers 规则解析时已绑定的脱敏处理器实例，缺失的属性按 sensitiveProps 中的类型解析
+     * @since 1.2.0
+     */
+    public FilterRule(Class<?> targetClass, String fieldPath, Set<String> props,
+                      boolean isInclude, Map<String, Class<? extends SensitiveType>> sensitiveProps,
+                      Map<String, SensitiveType> sensitiveHandlers) {
         this.targetClass = targetClass;
         this.fieldPath = fieldPath != null ? fieldPath : "";
         this.props = props != null ? Collections.unmodifiableSet(new HashSet<>(props)) : Collections.emptySet();
         this.isInclude = isInclude;
         this.sensitiveProps = sensitiveProps != null ?
                 Collections.unmodifiableMap(new HashMap<>(sensitiveProps)) : Collections.emptyMap();
+        this.sensitiveHandlers = sensitiveHandlers != null ?
+                Collections.unmodifiableMap(new HashMap<>(sensitiveHandlers)) : Collections.emptyMap();
     }
 
     public Class<?> getTargetClass() {
@@ -48,6 +61,13 @@ public class FilterRule {
         return sensitiveProps;
     }
 
+    /**
+     * 获取属性绑定的脱敏处理器实例，未绑定时返回 null
+     */
+    public SensitiveType getSensitiveHandler(String prop) {
+        return sensitiveHandlers.get(prop);
+    }
+
     public boolean hasFieldPath() {
         return fieldPath != null && !fieldPath.isEmpty();
     }
@@ -1,5 +1,7 @@
 package io.github.vennarshulytz.jsonviewext.model;
 
+import java.lang.reflect.Method;
+
 /**
  * 过滤响应包装类，标记需要进行字段过滤的响应对象
  *
@@ -10,10 +12,20 @@ public class FilteredResponse {
 
     private final Object data;
     private final FilterContext context;
+    private final Method handlerMethod;
 
     public FilteredResponse(Object data, FilterContext context) {
+        this(data, context, null);
+    }
+
+    /**
+     * @param handlerMethod 输出该响应的处理方法，用于按方法统计指标
+     * @since 1.2.0
+     */
+    public FilteredResponse(Object data, FilterContext context, Method handlerMethod) {
         this.data = data;
         this.context = context;
+        this.handlerMethod = handlerMethod;
     }
 
     public Object getData() {
@@ -23,4 +35,13 @@ public class FilteredResponse {
     public FilterContext getContext() {
         return context;
     }
+
+    /**
+     * 输出该响应的处理方法，未知时为 null
+     *
+     * @since 1.2.0
+     */
+    public Method getHandlerMethod() {
+        return handlerMethod;
+    }
 }
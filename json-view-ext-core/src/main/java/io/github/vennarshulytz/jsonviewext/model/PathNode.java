@@ -0,0 +1,154 @@
+package io.github.vennarshulytz.jsonviewext.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 路径字典树节点，由 {@link FilterContext} 中所有规则的 field 路径构建
+ * <p>
+ * 序列化时沿属性名逐级下探，不再拼接路径字符串；不在任何规则路径上的位置统一使用 {@link #DETACHED}。
+ * 每个节点持有一张按类型查找的生效规则表，构建时已合并当前路径与通用规则的 include/exclude 优先级，
+ * 查找规则只需一次查表
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class PathNode {
+
+    /**
+     * 不在任何规则路径上的节点，只可能匹配通用规则
+     */
+    public static final PathNode DETACHED = new PathNode("");
+
+    private final String path;
+    private Map<String, PathNode> children = Collections.emptyMap();
+    private Map<Class<?>, FilterRule> rules = Collections.emptyMap();
+
+    PathNode(String path) {
+        this.path = path;
+    }
+
+    /**
+     * 获取子节点，不存在时返回 {@link #DETACHED}
+     */
+    public PathNode child(String propName) {
+        if (children.isEmpty()) {
+            return DETACHED;
+        }
+        PathNode child = children.get(propName);
+        return child != null ? child : DETACHED;
+    }
+
+    /**
+     * 获取当前路径上生效的规则，{@link #DETACHED} 节点始终返回 null
+     */
+    public FilterRule getRule(Class<?> clazz) {
+        return rules.isEmpty() ? null : rules.get(clazz);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isDetached() {
+        return this == DETACHED;
+    }
+
+    /**
+     * 沿路径字符串查找节点，仅在构建和兼容旧接口时使用
+     */
+    PathNode find(String fieldPath) {
+        if (fieldPath == null || fieldPath.isEmpty()) {
+            return this;
+        }
+        PathNode node = this;
+        for (String segment : fieldPath.split("\\.", -1)) {
+            node = node.child(segment);
+            if (node.isDetached()) {
+                return DETACHED;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * 根据包含/排除规则构建字典树，返回根节点
+     * <p>
+     * 生效规则的优先级：当前路径 include &gt; 通用 include &gt; 当前路径 exclude &gt; 通用 exclude
+     */
+    static PathNode build(Iterable<FilterRule> includes, Iterable<FilterRule> excludes) {
+        PathNode root = new PathNode("");
+        Map<PathNode, Map<Class<?>, FilterRule>> includeRules = new IdentityHashMap<>();
+        Map<PathNode, Map<Class<?>, FilterRule>> excludeRules = new IdentityHashMap<>();
+        for (FilterRule rule : includes) {
+            put(includeRules, root.getOrCreate(rule.getFieldPath()), rule);
+        }
+        for (FilterRule rule : excludes) {
+            put(excludeRules, root.getOrCreate(rule.getFieldPath()), rule);
+        }
+
+        Map<Class<?>, FilterRule> rootIncludes = rulesOf(includeRules, root);
+        Map<Class<?>, FilterRule> rootExcludes = rulesOf(excludeRules, root);
+        List<PathNode> nodes = new ArrayList<>();
+        root.collect(nodes);
+        for (PathNode node : nodes) {
+            Map<Class<?>, FilterRule> nodeIncludes = rulesOf(includeRules, node);
+            Map<Class<?>, FilterRule> nodeExcludes = rulesOf(excludeRules, node);
+            Map<Class<?>, FilterRule> merged = new IdentityHashMap<>();
+            // 按优先级从低到高写入，高优先级覆盖低优先级
+            merged.putAll(rootExcludes);
+            merged.putAll(nodeExcludes);
+            merged.putAll(rootIncludes);
+            merged.putAll(nodeIncludes);
+            node.rules = merged.isEmpty() ? Collections.emptyMap() : merged;
+        }
+        return root;
+    }
+
+    private void collect(List<PathNode> nodes) {
+        nodes.add(this);
+        for (PathNode child : children.values()) {
+            child.collect(nodes);
+        }
+    }
+
+    private PathNode getOrCreate(String fieldPath) {
+        if (fieldPath.isEmpty()) {
+            return this;
+        }
+        PathNode node = this;
+        for (String segment : fieldPath.split("\\.", -1)) {
+            PathNode child = node.children.get(segment);
+            if (child == null) {
+                child = new PathNode(node.path.isEmpty() ? segment : node.path + "." + segment);
+                if (node.children.isEmpty()) {
+                    node.children = new HashMap<>();
+                }
+                node.children.put(segment, child);
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private static void put(Map<PathNode, Map<Class<?>, FilterRule>> rules, PathNode node, FilterRule rule) {
+        rules.computeIfAbsent(node, k -> new HashMap<>()).put(rule.getTargetClass(), rule);
+    }
+
+    private static Map<Class<?>, FilterRule> rulesOf(Map<PathNode, Map<Class<?>, FilterRule>> rules, PathNode node) {
+        Map<Class<?>, FilterRule> result = rules.get(node);
+        return result != null ? result : Collections.emptyMap();
+    }
+
+    @Override
+    public String toString() {
+        return "PathNode{" +
+                "path='" + path + '\'' +
+                ", children=" + children.keySet() +
+                '}';
+    }
+}
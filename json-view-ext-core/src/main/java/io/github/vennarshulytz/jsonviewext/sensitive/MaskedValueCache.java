@@ -0,0 +1,253 @@
+package io.github.vennarshulytz.jsonviewext.sensitive;
+
+import io.github.vennarshulytz.jsonviewext.core.CacheStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 脱敏结果缓存，按 (脱敏处理器, 原始值) 缓存脱敏后的值，重复出现的值只脱敏一次
+ * <p>
+ * 缓存容量有上限，达到上限时淘汰最近最少使用的条目；{@link Scope#GLOBAL} 作用域下按键分段加锁，各段分摊容量。
+ * 可设置过期时间，0 表示不过期。
+ * {@link Scope#REQUEST} 作用域下每次序列化使用独立的缓存，序列化结束后即丢弃，命中/未命中计数汇总到创建它的缓存上
+ * <p>
+ * 缓存的键是未脱敏的原始值，{@link Scope#GLOBAL} 作用域下原始值会在堆中保留到被淘汰或过期，
+ * 堆转储中可见；对此敏感时使用 {@link Scope#REQUEST}
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class MaskedValueCache {
+
+    /**
+     * 缓存作用域
+     */
+    public enum Scope {
+        /**
+         * 所有请求共享同一个缓存，原始值在过期或被淘汰前一直保留在堆中
+         */
+        GLOBAL,
+        /**
+         * 每次序列化使用独立的缓存
+         */
+        REQUEST
+    }
+
+    /**
+     * 缓存名称
+     */
+    public static final String CACHE_NAME = "masked-values";
+
+    /**
+     * 全局缓存的最大分段数
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * 每个分段的最小容量，容量较小时减少分段数，避免热点值被同段的其他值挤出
+     */
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Scope scope;
+    private final boolean concurrent;
+
+    private final Segment[] segments;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public MaskedValueCache(int maxSize, long ttl, TimeUnit unit, Scope scope) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl > 0 ? unit.toNanos(ttl) : 0L;
+        this.scope = scope;
+        this.concurrent = true;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.segments = new Segment[Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE))];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(maxSize / segments.length, evictions);
+        }
+    }
+
+    private MaskedValueCache(MaskedValueCache parent) {
+        this.maxSize = parent.maxSize;
+        this.ttlNanos = parent.ttlNanos;
+        this.scope = Scope.REQUEST;
+        this.concurrent = false;
+        this.hits = parent.hits;
+        this.misses = parent.misses;
+        this.evictions = parent.evictions;
+        this.segments = new Segment[]{new Segment(maxSize, evictions)};
+    }
+
+    /**
+     * 创建单次序列化使用的缓存，非线程安全，计数汇总到当前缓存
+     */
+    public MaskedValueCache newRequestCache() {
+        return new MaskedValueCache(this);
+    }
+
+    /**
+     * 获取脱敏后的值，未命中时执行脱敏并缓存结果
+     */
+    public String desensitize(SensitiveType handler, String value) {
+        if (value == null || handler == null) {
+            return value;
+        }
+        Key key = new Key(handler, value);
+        Segment segment = segments.length == 1 ? segments[0] : segments[(key.hash & 0x7fffffff) % segments.length];
+        Cached cached;
+        if (concurrent) {
+            synchronized (segment) {
+                cached = segment.get(key);
+            }
+        } else {
+            cached = segment.get(key);
+        }
+        if (cached != null && !cached.isExpired(ttlNanos)) {
+            hits.increment();
+            return cached.value;
+        }
+        misses.increment();
+
+        String masked = SensitiveHandler.desensitize(handler, value);
+        cached = new Cached(masked, ttlNanos > 0 ? System.nanoTime() : 0L);
+        if (concurrent) {
+            synchronized (segment) {
+                segment.put(key, cached);
+            }
+        } else {
+            segment.put(key, cached);
+        }
+        return masked;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                evictions.add(segment.size());
+                segment.clear();
+            }
+        }
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 当前缓存的条目数（近似值）
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 因淘汰或手动清除而移除的条目数
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 获取缓存状态的快照
+     */
+    public CacheStats getStats() {
+        return new CacheStats(CACHE_NAME, size(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    /**
+     * 按访问顺序排列的缓存分段，超出容量时淘汰最久未访问的条目
+     */
+    private static final class Segment extends LinkedHashMap<Key, Cached> {
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * (脱敏处理器, 原始值) 组合键，脱敏处理器按引用区分
+     */
+    private static final class Key {
+
+        private final SensitiveType handler;
+        private final String value;
+        private final int hash;
+
+        Key(SensitiveType handler, String value) {
+            this.handler = handler;
+            this.value = value;
+            this.hash = 31 * System.identityHashCode(handler) + value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return handler == that.handler && value.equals(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Cached {
+
+        private final String value;
+        private final long createdAt;
+
+        Cached(String value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired(long ttlNanos) {
+            return ttlNanos > 0 && System.nanoTime() - createdAt > ttlNanos;
+        }
+    }
+}
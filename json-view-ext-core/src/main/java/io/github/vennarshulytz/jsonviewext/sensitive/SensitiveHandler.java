@@ -1,9 +1,15 @@
 package io.github.vennarshulytz.jsonviewext.sensitive;
 
+import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;
+import io.github.vennarshulytz.jsonviewext.core.CacheCounters;
+import io.github.vennarshulytz.jsonviewext.core.CacheStats;
 import io.github.vennarshulytz.jsonviewext.exception.ClassInstantiationException;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.MaskType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -22,6 +28,15 @@ public class SensitiveHandler {
      */
     private static final Map<Class<? extends SensitiveType>, SensitiveType> HANDLER_CACHE = new ConcurrentHashMap<>();
 
+    /**
+     * 脱敏处理器缓存名称
+     *
+     * @since 1.2.0
+     */
+    public static final String HANDLERS_CACHE = "sensitive-handlers";
+
+    private static final CacheCounters handlerCounters = new CacheCounters();
+
     private SensitiveHandler() {
     }
 
@@ -29,6 +44,12 @@ public class SensitiveHandler {
      * 获取脱敏处理器实例
      */
     public static SensitiveType getHandler(Class<? extends SensitiveType> handlerClass) {
+        SensitiveType handler = HANDLER_CACHE.get(handlerClass);
+        if (handler != null) {
+            handlerCounters.hit();
+            return handler;
+        }
+        handlerCounters.miss();
         return HANDLER_CACHE.computeIfAbsent(handlerClass, clazz -> {
             try {
                 return clazz.getDeclaredConstructor().newInstance();
@@ -40,6 +61,29 @@ public class SensitiveHandler {
         });
     }
 
+    /**
+     * 根据 {@link Sensitive} 注解获取脱敏处理器，{@link MaskType} 按注解参数构建，相同参数共享实例
+     *
+     * @since 1.2.0
+     */
+    public static SensitiveType getHandler(Sensitive sensitive) {
+        return getHandler(sensitive.type(), sensitive.keepPrefix(), sensitive.keepSuffix(),
+                sensitive.maskChar(), sensitive.regex());
+    }
+
+    /**
+     * 按 {@link Sensitive} 注解的各项参数获取脱敏处理器，参数仅对 {@link MaskType} 生效
+     *
+     * @since 1.2.0
+     */
+    public static SensitiveType getHandler(Class<? extends SensitiveType> handlerClass, int keepPrefix,
+                                           int keepSuffix, char maskChar, String regex) {
+        if (handlerClass == MaskType.class) {
+            return MaskType.of(keepPrefix, keepSuffix, maskChar, regex);
+        }
+        return getHandler(handlerClass);
+    }
+
     /**
      * 执行脱敏操作
      */
@@ -56,6 +100,62 @@ public class SensitiveHandler {
         }
     }
 
+    /**
+     * 使用已解析的脱敏处理器执行脱敏操作
+     */
+    public static String desensitize(SensitiveType handler, String value) {
+        if (value == null || handler == null) {
+            return value;
+        }
+        try {
+            return handler.desensitize(value);
+        } catch (Exception e) {
+            log.warn("Desensitization failed for value, returning original value", e);
+            return value;
+        }
+    }
+
+    /**
+     * 使用已解析的脱敏处理器将脱敏结果写入缓冲区，处理器不支持或执行失败时返回 -1
+     */
+    public static int desensitize(SensitiveType handler, CharSequence value, char[] scratch) {
+        if (value == null || handler == null || scratch == null || scratch.length < value.length()) {
+            return -1;
+        }
+        try {
+            return handler.desensitize(value, scratch);
+        } catch (Exception e) {
+            log.debug("Buffered desensitization failed, falling back to String desensitization", e);
+            return -1;
+        }
+    }
+
+    /**
+     * 保留前 prefixLength 位和后 suffixLength 位，中间用掩码字符替换，结果写入缓冲区
+     * <p>
+     * 长度不足时原样写入，与内置脱敏类型的 String 版本行为一致
+     *
+     * @return 写入缓冲区的字符数，缓冲区不足时返回 -1
+     */
+    public static int mask(CharSequence value, int prefixLength, int suffixLength,
+                           char maskChar, char[] scratch) {
+        int length = value.length();
+        if (scratch.length < length) {
+            return -1;
+        }
+        if (value instanceof String) {
+            ((String) value).getChars(0, length, scratch, 0);
+        } else {
+            for (int i = 0; i < length; i++) {
+                scratch[i] = value.charAt(i);
+            }
+        }
+        if (length > prefixLength + suffixLength) {
+            Arrays.fill(scratch, prefixLength, length - suffixLength, maskChar);
+        }
+        return length;
+    }
+
     /**
      * 注册自定义脱敏处理器
      */
@@ -68,6 +168,16 @@ public class SensitiveHandler {
      * 清除缓存（主要用于测试）
      */
     public static void clearCache() {
+        handlerCounters.evicted(HANDLER_CACHE.size());
         HANDLER_CACHE.clear();
     }
+
+    /**
+     * 获取脱敏处理器缓存和 {@link MaskType} 参数化实例缓存的状态
+     *
+     * @since 1.2.0
+     */
+    public static List<CacheStats> getCacheStats() {
+        return Arrays.asList(handlerCounters.snapshot(HANDLERS_CACHE, HANDLER_CACHE.size()), MaskType.getCacheStats());
+    }
 }
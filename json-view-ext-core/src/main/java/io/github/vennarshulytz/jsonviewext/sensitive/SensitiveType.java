@@ -16,6 +16,21 @@ public interface SensitiveType {
      */
     String desensitize(String value);
 
+    /**
+     * 将脱敏结果直接写入调用方提供的缓冲区，避免创建中间字符串
+     * <p>
+     * 默认不支持，返回 -1，调用方回退到 {@link #desensitize(String)}；
+     * 结果超出缓冲区长度时同样返回 -1
+     *
+     * @param value   原始值
+     * @param scratch 输出缓冲区，长度不小于原始值长度
+     * @return 写入缓冲区的字符数，不支持时返回 -1
+     * @since 1.2.0
+     */
+    default int desensitize(CharSequence value, char[] scratch) {
+        return -1;
+    }
+
     /**
      * 获取脱敏类型名称
      *
@@ -1,6 +1,7 @@
 package io.github.vennarshulytz.jsonviewext.sensitive.impl;
 
 
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
 import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
 
 import static io.github.vennarshulytz.jsonviewext.constant.DesensitizationConstants.MASK_CHAR;
@@ -46,6 +47,21 @@ public class EmailType implements SensitiveType {
         return sb.toString();
     }
 
+    @Override
+    public int desensitize(CharSequence value, char[] scratch) {
+        int length = value.length();
+        int atIndex = -1;
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) == '@') {
+                atIndex = i;
+                break;
+            }
+        }
+        // 没有本地部分时原样输出
+        int suffixLength = atIndex <= 0 ? length : length - atIndex;
+        return SensitiveHandler.mask(value, PREFIX_LENGTH, suffixLength, MASK_CHAR, scratch);
+    }
+
     @Override
     public String getTypeName() {
         return "EMAIL";
@@ -1,5 +1,6 @@
 package io.github.vennarshulytz.jsonviewext.sensitive.impl;
 
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
 import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
 
 import static io.github.vennarshulytz.jsonviewext.constant.DesensitizationConstants.MASK_CHAR;
@@ -38,6 +39,11 @@ public class IdCardType implements SensitiveType {
         return sb.toString();
     }
 
+    @Override
+    public int desensitize(CharSequence value, char[] scratch) {
+        return SensitiveHandler.mask(value, PREFIX_LENGTH, SUFFIX_LENGTH, MASK_CHAR, scratch);
+    }
+
     @Override
     public String getTypeName() {
         return "ID_CARD";
@@ -0,0 +1,165 @@
+package io.github.vennarshulytz.jsonviewext.sensitive.impl;
+
+import io.github.vennarshulytz.jsonviewext.core.CacheCounters;
+import io.github.vennarshulytz.jsonviewext.core.CacheStats;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.github.vennarshulytz.jsonviewext.constant.DesensitizationConstants.MASK_CHAR;
+
+/**
+ * 参数化脱敏处理器
+ * 保留前 keepPrefix 位和后 keepSuffix 位，中间部分配置了 regex 时只替换匹配的字符，否则全部替换
+ * <p>
+ * 通过 {@link #of(int, int, char, String)} 获取实例，相同参数共享同一个实例
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class MaskType implements SensitiveType {
+
+    private static final Map<List<Object>, MaskType> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * 参数化实例缓存名称
+     */
+    public static final String INSTANCES_CACHE = "mask-types";
+
+    private static final CacheCounters instanceCounters = new CacheCounters();
+
+    private final int keepPrefix;
+    private final int keepSuffix;
+    private final char maskChar;
+    private final Pattern pattern;
+
+    /**
+     * 全部替换为掩码字符
+     */
+    public MaskType() {
+        this(0, 0, MASK_CHAR, "");
+    }
+
+    public MaskType(int keepPrefix, int keepSuffix, char maskChar, String regex) {
+        if (keepPrefix < 0 || keepSuffix < 0) {
+            throw new IllegalArgumentException("keepPrefix and keepSuffix must not be negative");
+        }
+        this.keepPrefix = keepPrefix;
+        this.keepSuffix = keepSuffix;
+        this.maskChar = maskChar;
+        this.pattern = regex == null || regex.isEmpty() ? null : Pattern.compile(regex);
+    }
+
+    /**
+     * 获取指定参数的脱敏处理器，相同参数只编译一次
+     */
+    public static MaskType of(int keepPrefix, int keepSuffix, char maskChar, String regex) {
+        List<Object> key = Arrays.asList(keepPrefix, keepSuffix, maskChar, regex);
+        MaskType instance = INSTANCES.get(key);
+        if (instance != null) {
+            instanceCounters.hit();
+            return instance;
+        }
+        instanceCounters.miss();
+        return INSTANCES.computeIfAbsent(key, k -> new MaskType(keepPrefix, keepSuffix, maskChar, regex));
+    }
+
+    /**
+     * 参数化实例缓存的状态
+     */
+    public static CacheStats getCacheStats() {
+        return instanceCounters.snapshot(INSTANCES_CACHE, INSTANCES.size());
+    }
+
+    /**
+     * 清空参数化实例缓存，已解析的规则继续持有原实例，之后解析的规则重新创建
+     *
+     * @return 移除的条目数
+     */
+    public static int purge() {
+        int removed = 0;
+        for (Iterator<List<Object>> it = INSTANCES.keySet().iterator(); it.hasNext(); ) {
+            it.next();
+            it.remove();
+            removed++;
+        }
+        instanceCounters.evicted(removed);
+        return removed;
+    }
+
+    @Override
+    public String desensitize(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        char[] chars = value.toCharArray();
+        return mask(value, chars) ? new String(chars) : value;
+    }
+
+    @Override
+    public int desensitize(CharSequence value, char[] scratch) {
+        int length = value.length();
+        if (pattern == null) {
+            return SensitiveHandler.mask(value, keepPrefix, keepSuffix, maskChar, scratch);
+        }
+        if (scratch.length < length) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            scratch[i] = value.charAt(i);
+        }
+        mask(value, scratch);
+        return length;
+    }
+
+    /**
+     * 在已复制原始值的缓冲区上替换掩码字符
+     *
+     * @return 是否有字符被替换
+     */
+    private boolean mask(CharSequence value, char[] chars) {
+        int end = value.length() - keepSuffix;
+        if (end <= keepPrefix) {
+            return false;
+        }
+        if (pattern == null) {
+            Arrays.fill(chars, keepPrefix, end, maskChar);
+            return true;
+        }
+        boolean masked = false;
+        Matcher matcher = pattern.matcher(value).region(keepPrefix, end);
+        while (matcher.find()) {
+            Arrays.fill(chars, matcher.start(), matcher.end(), maskChar);
+            masked |= matcher.end() > matcher.start();
+        }
+        return masked;
+    }
+
+    public int getKeepPrefix() {
+        return keepPrefix;
+    }
+
+    public int getKeepSuffix() {
+        return keepSuffix;
+    }
+
+    public char getMaskChar() {
+        return maskChar;
+    }
+
+    public String getRegex() {
+        return pattern != null ? pattern.pattern() : "";
+    }
+
+    @Override
+    public String getTypeName() {
+        return "MASK";
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.vennarshulytz.jsonviewext.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 统计服务端线程的内存分配量：排除压测客户端线程（名称以 load- 开头）和 HttpClient 内部线程后，
+ * 累加其余线程的已分配字节数
+ * <p>
+ * 虚拟线程的分配计入其载体线程；两次采样之间结束的线程无法统计，Tomcat 等线程池中的常驻线程不受影响
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+final class AllocationMeter {
+
+    static final String CLIENT_THREAD_PREFIX = "load-";
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    AllocationMeter() {
+        if (threadBean.isThreadAllocatedMemorySupported() && !threadBean.isThreadAllocatedMemoryEnabled()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    boolean isSupported() {
+        return threadBean.isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * 当前各服务端线程的已分配字节数
+     */
+    Map<Long, Long> snapshot() {
+        long[] ids = threadBean.getAllThreadIds();
+        ThreadInfo[] infos = threadBean.getThreadInfo(ids);
+        long[] allocated = threadBean.getThreadAllocatedBytes(ids);
+        Map<Long, Long> snapshot = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (infos[i] != null && allocated[i] >= 0 && isServerThread(infos[i].getThreadName())) {
+                snapshot.put(ids[i], allocated[i]);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 两次采样之间服务端线程的分配字节数
+     */
+    static long allocatedBetween(Map<Long, Long> start, Map<Long, Long> end) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : end.entrySet()) {
+            total += entry.getValue() - start.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+
+    private static boolean isServerThread(String name) {
+        return !name.startsWith(CLIENT_THREAD_PREFIX) && !name.startsWith("HttpClient");
+    }
+}
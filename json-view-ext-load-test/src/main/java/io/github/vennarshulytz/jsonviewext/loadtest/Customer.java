@@ -0,0 +1,93 @@
+package io.github.vennarshulytz.jsonviewext.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 压测接口返回的数据
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class Customer {
+
+    private long id;
+    private String name;
+    private String phone;
+    private String email;
+    private String level;
+    private String remark;
+    private List<Address> addresses;
+
+    public static List<Customer> list(int size) {
+        List<Customer> customers = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            Customer customer = new Customer();
+            customer.id = i;
+            customer.name = "customer-" + i;
+            customer.phone = String.valueOf(13800000000L + i);
+            customer.email = "customer" + i + "@example.com";
+            customer.level = i % 3 == 0 ? "VIP" : "NORMAL";
+            customer.remark = "remark of customer " + i;
+            customer.addresses = new ArrayList<>();
+            for (int j = 1; j <= 2; j++) {
+                customer.addresses.add(new Address("city-" + j, "street " + i + "-" + j, "1000" + j));
+            }
+            customers.add(customer);
+        }
+        return customers;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    public List<Address> getAddresses() {
+        return addresses;
+    }
+
+    public static class Address {
+
+        private final String city;
+        private final String street;
+        private final String zipCode;
+
+        public Address(String city, String street, String zipCode) {
+            this.city = city;
+            this.street = street;
+            this.zipCode = zipCode;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public String getZipCode() {
+            return zipCode;
+        }
+    }
+}
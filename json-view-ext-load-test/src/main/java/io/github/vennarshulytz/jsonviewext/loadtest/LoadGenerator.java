@@ -0,0 +1,207 @@
+package io.github.vennarshulytz.jsonviewext.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 闭环压测客户端：每个客户端线程串行发送请求，收到响应后立即发送下一个
+ * <ul>
+ *     <li>预热阶段轮流请求过滤接口、普通接口和 probe 接口，校验每个响应并检查服务端线程上是否残留过滤状态</li>
+ *     <li>测量阶段只请求被测接口，记录延迟和服务端分配量，同样校验每个响应</li>
+ * </ul>
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class LoadGenerator {
+
+    private static final int MAX_SAMPLES = 20;
+
+    private final URI baseUri;
+    private final Map<String, String> expectedBodies;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AllocationMeter allocationMeter = new AllocationMeter();
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+
+    /**
+     * @param expectedBodies 接口路径到期望响应的映射，应在无并发时获取
+     */
+    public LoadGenerator(URI baseUri, Map<String, String> expectedBodies) {
+        this.baseUri = baseUri;
+        this.expectedBodies = expectedBodies;
+        AtomicInteger ioThreads = new AtomicInteger();
+        this.httpExecutor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, AllocationMeter.CLIENT_THREAD_PREFIX + "io-" + ioThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(httpExecutor)
+                .build();
+    }
+
+    /**
+     * 无并发地获取接口响应，作为压测中校验响应的基准
+     */
+    public static String fetch(URI baseUri, String path) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(baseUri.resolve(path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    /**
+     * @param threads  服务端线程模型，仅用于报告
+     * @param endpoint 被测接口名称，仅用于报告
+     * @param path     被测接口路径
+     */
+    public LoadResult run(String threads, String endpoint, String path, int clients, Duration warmUp,
+                          Duration duration) throws InterruptedException {
+        Phase phase = new Phase();
+        List<String> samples = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger problems = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        Client[] workers = new Client[clients];
+        Thread[] clientThreads = new Thread[clients];
+        for (int i = 0; i < clients; i++) {
+            workers[i] = new Client(path, phase, samples, problems, errors);
+            clientThreads[i] = new Thread(workers[i], AllocationMeter.CLIENT_THREAD_PREFIX + "client-" + i);
+            clientThreads[i].start();
+        }
+
+        Thread.sleep(warmUp.toMillis());
+        Map<Long, Long> allocationStart = allocationMeter.isSupported() ? allocationMeter.snapshot() : null;
+        long start = System.nanoTime();
+        phase.measuring = true;
+        Thread.sleep(duration.toMillis());
+        phase.stopped = true;
+        long end = System.nanoTime();
+        Map<Long, Long> allocationEnd = allocationMeter.isSupported() ? allocationMeter.snapshot() : null;
+        for (Thread clientThread : clientThreads) {
+            clientThread.join();
+        }
+
+        long[] latencies = new long[0];
+        for (Client worker : workers) {
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + worker.count);
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+        }
+        long allocated = allocationStart == null ? -1 : AllocationMeter.allocatedBetween(allocationStart, allocationEnd);
+        return new LoadResult(threads, endpoint, clients, latencies, (end - start) / 1e9, allocated, errors.get(),
+                problems.get(), samples);
+    }
+
+    public void close() {
+        httpExecutor.shutdownNow();
+    }
+
+    private static final class Phase {
+        volatile boolean measuring;
+        volatile boolean stopped;
+    }
+
+    private final class Client implements Runnable {
+
+        private final String target;
+        private final Phase phase;
+        private final List<String> samples;
+        private final AtomicInteger problems;
+        private final AtomicInteger errors;
+        private long[] latencies = new long[1024];
+        private int count;
+
+        Client(String target, Phase phase, List<String> samples, AtomicInteger problems, AtomicInteger errors) {
+            this.target = target;
+            this.phase = phase;
+            this.samples = samples;
+            this.problems = problems;
+            this.errors = errors;
+        }
+
+        @Override
+        public void run() {
+            String[] warmUpPaths = {LoadTestController.FILTERED, LoadTestController.PLAIN, LoadTestController.PROBE};
+            int sequence = 0;
+            while (!phase.stopped) {
+                boolean measuring = phase.measuring;
+                String path = measuring ? target : warmUpPaths[sequence++ % warmUpPaths.length];
+                long start = System.nanoTime();
+                String body = send(path);
+                long latency = System.nanoTime() - start;
+                if (body == null) {
+                    continue;
+                }
+                verify(path, body);
+                if (measuring && !phase.stopped) {
+                    record(latency);
+                }
+            }
+        }
+
+        private String send(String path) {
+            try {
+                HttpResponse<String> response = httpClient.send(
+                        HttpRequest.newBuilder(baseUri.resolve(path)).build(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    return response.body();
+                }
+                errors.incrementAndGet();
+            } catch (IOException e) {
+                errors.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                phase.stopped = true;
+            }
+            return null;
+        }
+
+        private void verify(String path, String body) {
+            if (LoadTestController.PROBE.equals(path)) {
+                try {
+                    JsonNode state = objectMapper.readTree(body);
+                    if (state.path("context").asBoolean() || state.path("pathDepth").asInt() != 0) {
+                        problem("stale filter state on " + state.path("thread").asText() + ": " + body);
+                    }
+                } catch (IOException e) {
+                    problem("unreadable probe response: " + body);
+                }
+            } else if (!expectedBodies.get(path).equals(body)) {
+                problem(path + " returned unexpected body: " + body);
+            }
+        }
+
+        private void problem(String message) {
+            if (problems.incrementAndGet() <= MAX_SAMPLES) {
+                samples.add(message);
+            }
+        }
+
+        private void record(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+    }
+}
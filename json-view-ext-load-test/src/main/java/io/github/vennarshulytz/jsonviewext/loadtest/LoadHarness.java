@@ -0,0 +1,133 @@
+package io.github.vennarshulytz.jsonviewext.loadtest;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 端到端压测入口：以内嵌 Tomcat 启动 {@link LoadTestApplication}，在同一进程内用 HTTP 客户端按 1..N 个并发压测
+ * 过滤接口和普通接口，分别使用平台线程和虚拟线程（需要 JDK 21+）处理请求
+ * <p>
+ * 参数（均可省略）：
+ * <ul>
+ *     <li>{@code --load.clients=1,2,4,8,16,32} 并发客户端数</li>
+ *     <li>{@code --load.threads=platform,virtual} 服务端线程模型</li>
+ *     <li>{@code --load.endpoints=filtered,plain} 被测接口</li>
+ *     <li>{@code --load.warm-up=5s}、{@code --load.duration=10s} 每轮的预热和测量时长</li>
+ * </ul>
+ * 其余参数原样传给 Spring Boot，如 {@code --json-view-ext.view-specialized-writers=true}、
+ * {@code --server.tomcat.threads.max=16}。出现请求失败或请求之间状态泄漏时以非 0 状态退出
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public final class LoadHarness {
+
+    private static final String PREFIX = "--load.";
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("clients", "1,2,4,8,16,32");
+        options.put("threads", "platform,virtual");
+        options.put("endpoints", "filtered,plain");
+        options.put("warm-up", "5s");
+        options.put("duration", "10s");
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith(PREFIX) && separator > 0) {
+                String key = arg.substring(PREFIX.length(), separator);
+                if (!options.containsKey(key)) {
+                    throw new IllegalArgumentException("Unknown option " + arg);
+                }
+                options.put(key, arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+        Duration warmUp = DurationStyle.detectAndParse(options.get("warm-up"));
+        Duration duration = DurationStyle.detectAndParse(options.get("duration"));
+
+        List<LoadResult> results = new ArrayList<>();
+        for (String threads : split(options.get("threads"))) {
+            if ("virtual".equals(threads) && Runtime.version().feature() < 21) {
+                System.out.println("Skipping virtual threads: JDK 21+ is required, running on " + Runtime.version());
+                continue;
+            }
+            if (!"platform".equals(threads) && !"virtual".equals(threads)) {
+                throw new IllegalArgumentException("Unknown thread model " + threads);
+            }
+            results.addAll(run(threads, split(options.get("endpoints")), split(options.get("clients")),
+                    warmUp, duration, applicationArgs));
+        }
+
+        boolean failed = false;
+        System.out.println();
+        System.out.print(LoadResult.header());
+        for (LoadResult result : results) {
+            System.out.print(result.row());
+            failed |= result.getErrors() > 0 || result.getProblems() > 0;
+        }
+        for (LoadResult result : results) {
+            for (String sample : result.getProblemSamples()) {
+                System.out.println(result.getThreads() + "/" + result.getEndpoint() + "/" + result.getClients()
+                        + ": " + sample);
+            }
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static List<LoadResult> run(String threads, String[] endpoints, String[] clientCounts, Duration warmUp,
+                                        Duration duration, List<String> applicationArgs) throws Exception {
+        List<LoadResult> results = new ArrayList<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN",
+                        "spring.threads.virtual.enabled=" + "virtual".equals(threads))
+                .run(applicationArgs.toArray(new String[0]))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            Map<String, String> expectedBodies = new LinkedHashMap<>();
+            for (String path : new String[]{LoadTestController.FILTERED, LoadTestController.PLAIN}) {
+                expectedBodies.put(path, LoadGenerator.fetch(baseUri, path));
+            }
+
+            LoadGenerator generator = new LoadGenerator(baseUri, expectedBodies);
+            try {
+                for (String endpoint : endpoints) {
+                    String path = "filtered".equals(endpoint) ? LoadTestController.FILTERED
+                            : "plain".equals(endpoint) ? LoadTestController.PLAIN : null;
+                    if (path == null) {
+                        throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+                    }
+                    for (String clients : clientCounts) {
+                        LoadResult result = generator.run(threads, endpoint, path, Integer.parseInt(clients),
+                                warmUp, duration);
+                        System.out.print(result.row());
+                        results.add(result);
+                    }
+                }
+            } finally {
+                generator.close();
+            }
+        }
+        return results;
+    }
+
+    private static String[] split(String value) {
+        return value.trim().split("\\s*,\\s*");
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.vennarshulytz.jsonviewext.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 单次压测的结果：吞吐量、延迟分位数、服务端分配速率以及校验失败情况
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class LoadResult {
+
+    private static final String ROW_FORMAT = "%-9s %-9s %7s %10s %8s %8s %8s %8s %8s %10s %10s %7s %7s%n";
+
+    private final String threads;
+    private final String endpoint;
+    private final int clients;
+    private final long[] latencies;
+    private final double seconds;
+    private final long allocatedBytes;
+    private final int errors;
+    private final int problems;
+    private final List<String> problemSamples;
+
+    LoadResult(String threads, String endpoint, int clients, long[] latencies, double seconds,
+               long allocatedBytes, int errors, int problems, List<String> problemSamples) {
+        this.threads = threads;
+        this.endpoint = endpoint;
+        this.clients = clients;
+        this.latencies = latencies.clone();
+        Arrays.sort(this.latencies);
+        this.seconds = seconds;
+        this.allocatedBytes = allocatedBytes;
+        this.errors = errors;
+        this.problems = problems;
+        this.problemSamples = new ArrayList<>(problemSamples);
+    }
+
+    public static String header() {
+        return String.format(ROW_FORMAT, "threads", "endpoint", "clients", "req/s", "p50(ms)", "p90(ms)",
+                "p99(ms)", "p999(ms)", "max(ms)", "alloc(MB/s)", "KB/req", "errors", "leaks");
+    }
+
+    public String row() {
+        return String.format(ROW_FORMAT, threads, endpoint, clients,
+                String.format("%.0f", getThroughput()),
+                millis(percentile(0.50)), millis(percentile(0.90)), millis(percentile(0.99)),
+                millis(percentile(0.999)), millis(percentile(1.0)),
+                allocatedBytes < 0 ? "n/a" : String.format("%.1f", allocatedBytes / seconds / (1024 * 1024)),
+                allocatedBytes < 0 || latencies.length == 0
+                        ? "n/a" : String.format("%.1f", allocatedBytes / 1024.0 / latencies.length),
+                errors, problems);
+    }
+
+    public double getThroughput() {
+        return latencies.length / seconds;
+    }
+
+    /**
+     * 最近秩法计算的延迟分位数（纳秒）
+     */
+    public long percentile(double quantile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * latencies.length);
+        return latencies[Math.max(0, Math.min(latencies.length, rank) - 1)];
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    /**
+     * 响应内容不符或 probe 发现残留状态的次数，不为 0 即说明请求之间存在状态泄漏
+     */
+    public int getProblems() {
+        return problems;
+    }
+
+    /**
+     * 前若干次问题的详情
+     */
+    public List<String> getProblemSamples() {
+        return problemSamples;
+    }
+
+    public String getThreads() {
+        return threads;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
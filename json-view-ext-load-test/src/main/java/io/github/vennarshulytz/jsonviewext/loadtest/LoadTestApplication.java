@@ -0,0 +1,15 @@
+package io.github.vennarshulytz.jsonviewext.loadtest;
+
+import io.github.vennarshulytz.jsonviewext.annotation.EnableJsonViewExt;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 压测使用的 Web 应用，由 {@link LoadHarness} 以内嵌 Tomcat 启动
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@SpringBootApplication
+@EnableJsonViewExt
+public class LoadTestApplication {
+}
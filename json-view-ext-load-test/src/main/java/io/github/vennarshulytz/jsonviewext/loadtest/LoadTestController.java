@@ -0,0 +1,57 @@
+package io.github.vennarshulytz.jsonviewext.loadtest;
+
+import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;
+import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;
+import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;
+import io.github.vennarshulytz.jsonviewext.core.JsonViewExtBeanSerializerModifier;
+import io.github.vennarshulytz.jsonviewext.core.JsonViewExtContextHolder;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.PhoneType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 压测接口：同一份数据分别以过滤和不过滤的方式输出，probe 接口报告当前线程上残留的过滤状态
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@RestController
+public class LoadTestController {
+
+    static final String FILTERED = "/customers/filtered";
+    static final String PLAIN = "/customers/plain";
+    static final String PROBE = "/probe";
+
+    private final List<Customer> customers = Customer.list(20);
+
+    @JsonViewExt(include = {
+            @JsonFilterExt(clazz = Customer.class, props = {"id", "name", "phone", "addresses"},
+                    sensitives = @Sensitive(type = PhoneType.class, props = "phone")),
+            @JsonFilterExt(clazz = Customer.Address.class, field = "addresses", props = {"city"})
+    })
+    @GetMapping(FILTERED)
+    public List<Customer> filtered() {
+        return customers;
+    }
+
+    @GetMapping(PLAIN)
+    public List<Customer> plain() {
+        return customers;
+    }
+
+    /**
+     * 处理请求时线程上不应有上一个请求遗留的过滤上下文和路径
+     */
+    @GetMapping(PROBE)
+    public Map<String, Object> probe() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("thread", Thread.currentThread().toString());
+        state.put("context", JsonViewExtContextHolder.hasContext());
+        state.put("pathDepth", JsonViewExtBeanSerializerModifier.PathTracker.getPathStack().size());
+        return state;
+    }
+}
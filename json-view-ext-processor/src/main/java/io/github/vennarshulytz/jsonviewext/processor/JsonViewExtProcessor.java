@@ -0,0 +1,507 @@
+package io.github.vennarshulytz.jsonviewext.processor;
+
+import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;
+import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;
+import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;
+import io.github.vennarshulytz.jsonviewext.core.CompiledRuleProvider;
+import io.github.vennarshulytz.jsonviewext.core.CompiledRules;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 编译期解析 @JsonViewExt/@JsonFilterExt/@Sensitive 注解，生成 {@link CompiledRuleProvider} 规则表
+ * <p>
+ * 注解查找顺序与 FilterRuleRegistry 运行时一致：方法注解、方法上的组合注解、类注解、类上的组合注解。
+ * 同时校验规则：props 中不存在于目标类型的属性、非法的脱敏参数默认作为编译错误报告。
+ * <p>
+ * 支持的编译参数：
+ * <ul>
+ *     <li>{@code jsonviewext.validation}：error（默认）、warn 或 none</li>
+ *     <li>{@code jsonviewext.rulesClass}：生成的规则表类名，默认为第一个声明规则的类所在包下的 JsonViewExtCompiledRules</li>
+ * </ul>
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({JsonViewExtProcessor.OPTION_VALIDATION, JsonViewExtProcessor.OPTION_RULES_CLASS})
+public class JsonViewExtProcessor extends AbstractProcessor {
+
+    static final String OPTION_VALIDATION = "jsonviewext.validation";
+    static final String OPTION_RULES_CLASS = "jsonviewext.rulesClass";
+
+    private static final String DEFAULT_RULES_CLASS = "JsonViewExtCompiledRules";
+    private static final String SERVICE_FILE = "META-INF/services/" + CompiledRuleProvider.class.getName();
+
+    private static final String JSON_VIEW_EXT = JsonViewExt.class.getCanonicalName();
+    private static final String JSON_ANY_GETTER = "com.fasterxml.jackson.annotation.JsonAnyGetter";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Diagnostic.Kind validationKind;
+
+    private String rulesClass;
+    private final List<String> generatedClasses = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.rulesClass = processingEnv.getOptions().get(OPTION_RULES_CLASS);
+        String validation = processingEnv.getOptions().get(OPTION_VALIDATION);
+        if ("none".equalsIgnoreCase(validation)) {
+            this.validationKind = null;
+        } else if ("warn".equalsIgnoreCase(validation)) {
+            this.validationKind = Diagnostic.Kind.WARNING;
+        } else {
+            this.validationKind = Diagnostic.Kind.ERROR;
+        }
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        if (elements.getTypeElement(JSON_VIEW_EXT) == null) {
+            return false;
+        }
+
+        // 方法签名 -> 生成的注册语句
+        Map<String, String> views = new LinkedHashMap<>();
+        TypeElement firstType = null;
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            TypeElement found = scan(type, views);
+            if (firstType == null) {
+                firstType = found;
+            }
+        }
+        if (!views.isEmpty()) {
+            writeRulesClass(firstType, views);
+        }
+        return false;
+    }
+
+    /**
+     * 扫描类型及其内部类中的方法，返回第一个声明了规则的类型
+     */
+    private TypeElement scan(TypeElement type, Map<String, String> views) {
+        TypeElement found = null;
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.METHOD) {
+                ExecutableElement method = (ExecutableElement) enclosed;
+                AnnotationMirror jsonViewExt = findJsonViewExt(method, type);
+                if (jsonViewExt != null) {
+                    String methodKey = methodKey(type, method);
+                    views.put(methodKey, compileView(methodKey, jsonViewExt, method));
+                    if (found == null) {
+                        found = type;
+                    }
+                }
+            } else if (enclosed instanceof TypeElement) {
+                TypeElement nested = scan((TypeElement) enclosed, views);
+                if (found == null) {
+                    found = nested;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 与 FilterRuleRegistry#findJsonViewExtAnnotation 的查找顺序一致，类注解包含继承的注解
+     */
+    private AnnotationMirror findJsonViewExt(ExecutableElement method, TypeElement type) {
+        AnnotationMirror found = findDirect(method.getAnnotationMirrors());
+        if (found == null) {
+            found = findMeta(method.getAnnotationMirrors());
+        }
+        if (found == null) {
+            found = findDirect(elements.getAllAnnotationMirrors(type));
+        }
+        if (found == null) {
+            found = findMeta(elements.getAllAnnotationMirrors(type));
+        }
+        return found;
+    }
+
+    private AnnotationMirror findDirect(List<? extends AnnotationMirror> mirrors) {
+        for (AnnotationMirror mirror : mirrors) {
+            if (isJsonViewExt(mirror)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationMirror findMeta(List<? extends AnnotationMirror> mirrors) {
+        for (AnnotationMirror mirror : mirrors) {
+            AnnotationMirror found = findDirect(mirror.getAnnotationType().asElement().getAnnotationMirrors());
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private boolean isJsonViewExt(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(JSON_VIEW_EXT);
+    }
+
+    /**
+     * 生成单个方法的注册语句，格式与 {@link CompiledRules.View} 的方法一致
+     */
+    private String compileView(String methodKey, AnnotationMirror jsonViewExt, ExecutableElement method) {
+        Map<String, Object> values = values(jsonViewExt);
+        StringBuilder code = new StringBuilder();
+        code.append("        rules.method(").append(literal(methodKey)).append(')');
+        appendRules(code, "include", values.get("include"), method);
+        appendRules(code, "exclude", values.get("exclude"), method);
+        return code.append(";\n").toString();
+    }
+
+    private void appendRules(StringBuilder code, String kind, Object filters, ExecutableElement method) {
+        for (AnnotationMirror filter : mirrors(filters)) {
+            Map<String, Object> values = values(filter);
+            TypeMirror clazz = (TypeMirror) values.get("clazz");
+            List<String> props = strings(values.get("props"));
+            validateProps(clazz, props, method, filter, JsonFilterExt.class.getSimpleName());
+
+            code.append("\n                .").append(kind).append('(')
+                    .append(literal(binaryName(clazz))).append(", ")
+                    .append(literal((String) values.get("field")));
+            appendStrings(code, props);
+            code.append(')');
+
+            for (AnnotationMirror sensitive : mirrors(values.get("sensitives"))) {
+                appendSensitive(code, clazz, sensitive, method);
+            }
+        }
+    }
+
+    private void appendSensitive(StringBuilder code, TypeMirror clazz, AnnotationMirror sensitive,
+                                 ExecutableElement method) {
+        Map<String, Object> values = values(sensitive);
+        List<String> props = strings(values.get("props"));
+        int keepPrefix = (Integer) values.get("keepPrefix");
+        int keepSuffix = (Integer) values.get("keepSuffix");
+        String regex = (String) values.get("regex");
+        validateProps(clazz, props, method, sensitive, Sensitive.class.getSimpleName());
+        if (keepPrefix < 0 || keepSuffix < 0) {
+            report("@Sensitive keepPrefix and keepSuffix must not be negative", method, sensitive);
+        }
+        if (!regex.isEmpty()) {
+            try {
+                Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                report("@Sensitive regex is invalid: " + e.getDescription(), method, sensitive);
+            }
+        }
+
+        code.append("\n                .sensitive(")
+                .append(literal(binaryName((TypeMirror) values.get("type")))).append(", ")
+                .append(keepPrefix).append(", ")
+                .append(keepSuffix).append(", ")
+                .append(elements.getConstantExpression(values.get("maskChar"))).append(", ")
+                .append(literal(regex));
+        appendStrings(code, props);
+        code.append(')');
+    }
+
+    /**
+     * 校验属性名是否存在于目标类型，目标类型为接口、Map 或带有 @JsonAnyGetter 时不校验
+     */
+    private void validateProps(TypeMirror clazz, List<String> props, ExecutableElement method,
+                               AnnotationMirror annotation, String annotationName) {
+        if (validationKind == null || clazz.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        TypeElement type = (TypeElement) types.asElement(clazz);
+        Set<String> properties = properties(type);
+        if (properties == null) {
+            return;
+        }
+        for (String prop : props) {
+            if (!properties.contains(prop)) {
+                report("@" + annotationName + " property '" + prop + "' does not exist in "
+                        + type.getQualifiedName(), method, annotation);
+            }
+        }
+    }
+
+    /**
+     * 收集类型及其父类的字段名、getter 属性名和 @JsonProperty 名称，无法确定属性集合时返回 null
+     */
+    private Set<String> properties(TypeElement type) {
+        if (type.getKind() == ElementKind.INTERFACE
+                || types.isAssignable(types.erasure(type.asType()),
+                types.erasure(elements.getTypeElement(Map.class.getName()).asType()))) {
+            return null;
+        }
+        Set<String> properties = new HashSet<>();
+        for (Element member : elements.getAllMembers(type)) {
+            if (hasAnnotation(member, JSON_ANY_GETTER)) {
+                return null;
+            }
+            if (member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String jsonProperty = jsonPropertyName(member);
+            if (jsonProperty != null) {
+                properties.add(jsonProperty);
+            }
+            if (member.getKind() == ElementKind.FIELD) {
+                properties.add(member.getSimpleName().toString());
+            } else if (member.getKind() == ElementKind.METHOD) {
+                String suffix = getterSuffix((ExecutableElement) member);
+                if (suffix != null) {
+                    properties.add(legacyPropertyName(suffix));
+                    properties.add(stdPropertyName(suffix));
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * getter 去掉 get/is 前缀后的部分，不是 getter 时返回 null
+     */
+    private static String getterSuffix(ExecutableElement method) {
+        if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+            return null;
+        }
+        String name = method.getSimpleName().toString();
+        if (name.startsWith("get") && name.length() > 3) {
+            return name.substring(3);
+        }
+        if (name.startsWith("is") && name.length() > 2) {
+            return name.substring(2);
+        }
+        return null;
+    }
+
+    /**
+     * Jackson 默认的属性名转换：开头连续的大写字母全部转为小写，如 getURL -> url
+     */
+    private static String legacyPropertyName(String suffix) {
+        int upper = 0;
+        while (upper < suffix.length() && Character.isUpperCase(suffix.charAt(upper))) {
+            upper++;
+        }
+        return suffix.substring(0, upper).toLowerCase(Locale.ROOT) + suffix.substring(upper);
+    }
+
+    /**
+     * 标准 JavaBeans 属性名转换（MapperFeature.USE_STD_BEAN_NAMING），如 getURL -> URL
+     */
+    private static String stdPropertyName(String suffix) {
+        if (suffix.length() > 1 && Character.isUpperCase(suffix.charAt(0)) && Character.isUpperCase(suffix.charAt(1))) {
+            return suffix;
+        }
+        return Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+    }
+
+    private String jsonPropertyName(Element member) {
+        for (AnnotationMirror mirror : member.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(JSON_PROPERTY)) {
+                Object value = values(mirror).get("value");
+                return value instanceof String && !((String) value).isEmpty() ? (String) value : null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void report(String message, Element element, AnnotationMirror annotation) {
+        if (validationKind != null) {
+            messager.printMessage(validationKind, message, element, annotation);
+        }
+    }
+
+    /**
+     * 方法在规则表中的键，与 {@link CompiledRules#methodKey(java.lang.reflect.Method)} 一致
+     */
+    private String methodKey(TypeElement type, ExecutableElement method) {
+        StringBuilder key = new StringBuilder(elements.getBinaryName(type))
+                .append('#').append(method.getSimpleName()).append('(');
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(binaryName(parameters.get(i).asType()));
+        }
+        return key.append(')').toString();
+    }
+
+    /**
+     * 擦除后的运行时类型名，数组与 {@link Class#getTypeName()} 格式一致
+     */
+    private String binaryName(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return binaryName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return elements.getBinaryName((TypeElement) ((DeclaredType) erased).asElement()).toString();
+        }
+        return erased.toString();
+    }
+
+    private void writeRulesClass(TypeElement firstType, Map<String, String> views) {
+        String qualifiedName = rulesClass != null ? rulesClass : defaultRulesClass(firstType);
+        if (!generatedClasses.isEmpty()) {
+            // 后续轮次（如其他处理器生成的代码）中出现的规则单独生成一个类
+            qualifiedName = qualifiedName + (generatedClasses.size() + 1);
+        }
+        int dot = qualifiedName.lastIndexOf('.');
+        String packageName = dot > 0 ? qualifiedName.substring(0, dot) : "";
+        String simpleName = qualifiedName.substring(dot + 1);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import ").append(CompiledRuleProvider.class.getName()).append(";\n")
+                .append("import ").append(CompiledRules.class.getName()).append(";\n\n")
+                .append("/**\n")
+                .append(" * 由 ").append(JsonViewExtProcessor.class.getSimpleName())
+                .append(" 生成的 @JsonViewExt 规则表，请勿手动修改\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(CompiledRuleProvider.class.getSimpleName()).append(" {\n\n")
+                .append("    @Override\n")
+                .append("    public void register(").append(CompiledRules.class.getSimpleName())
+                .append(" rules) {\n");
+        for (String view : views.values()) {
+            source.append(view);
+        }
+        source.append("    }\n}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, firstType);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+            generatedClasses.add(qualifiedName);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write " + qualifiedName + ": " + e, firstType);
+        }
+    }
+
+    private String defaultRulesClass(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+        return packageElement.isUnnamed()
+                ? DEFAULT_RULES_CLASS
+                : packageElement.getQualifiedName() + "." + DEFAULT_RULES_CLASS;
+    }
+
+    private void writeServiceFile() {
+        if (generatedClasses.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String generatedClass : generatedClasses) {
+                    writer.write(generatedClass);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICE_FILE + ": " + e);
+        }
+    }
+
+    private String literal(String value) {
+        return elements.getConstantExpression(value);
+    }
+
+    private void appendStrings(StringBuilder code, List<String> values) {
+        for (String value : values) {
+            code.append(", ").append(literal(value));
+        }
+    }
+
+    private Map<String, Object> values(AnnotationMirror mirror) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        return values;
+    }
+
+    private static List<AnnotationMirror> mirrors(Object value) {
+        List<AnnotationMirror> mirrors = new ArrayList<>();
+        for (Object element : (List<?>) value) {
+            mirrors.add((AnnotationMirror) ((AnnotationValue) element).getValue());
+        }
+        return mirrors;
+    }
+
+    private static List<String> strings(Object value) {
+        List<String> strings = new ArrayList<>();
+        for (Object element : (List<?>) value) {
+            strings.add((String) ((AnnotationValue) element).getValue());
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,267 @@
+package io.github.vennarshulytz.jsonviewext.processor;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;
+import io.github.vennarshulytz.jsonviewext.core.CompiledRules;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 测试 JsonViewExtProcessor 的规则校验和生成的规则表
+ * <p>
+ * 每个用例都在内存中编译一段源码，编译时挂载注解处理器并收集诊断信息
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class JsonViewExtProcessorTests {
+
+    private static final String ENTITY = "package demo;\n"
+            + "\n"
+            + "import com.fasterxml.jackson.annotation.JsonProperty;\n"
+            + "\n"
+            + "public class User {\n"
+            + "    private Long id;\n"
+            + "    @JsonProperty(\"full_name\")\n"
+            + "    private String name;\n"
+            + "    private String phone;\n"
+            + "    public Long getId() { return id; }\n"
+            + "    public String getURL() { return null; }\n"
+            + "    public boolean isActive() { return true; }\n"
+            + "    @JsonProperty(\"nick\")\n"
+            + "    public String alias() { return null; }\n"
+            + "}\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUnknownPropIsErrorByDefault() {
+        // 测试 props 中不存在的属性默认作为编译错误报告
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = process(
+                controller("@JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = {\"id\", \"missing\"}))"));
+        assertEquals(Collections.singletonList("@JsonFilterExt property 'missing' does not exist in demo.User"),
+                messages(diagnostics, Diagnostic.Kind.ERROR));
+    }
+
+    @Test
+    public void testSensitiveUnknownProp() {
+        // 测试 @Sensitive 的 props 同样校验
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = process(
+                controller("@JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = {\"id\", \"phone\"},"
+                        + " sensitives = @Sensitive(props = \"mobile\")))"));
+        assertEquals(Collections.singletonList("@Sensitive property 'mobile' does not exist in demo.User"),
+                messages(diagnostics, Diagnostic.Kind.ERROR));
+    }
+
+    @Test
+    public void testValidationWarn() {
+        // 测试 jsonviewext.validation=warn 时降级为警告，编译成功
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = process(
+                Collections.singletonList("-Ajsonviewext.validation=warn"),
+                controller("@JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = {\"id\", \"missing\"}))"));
+        assertTrue(messages(diagnostics, Diagnostic.Kind.ERROR).isEmpty());
+        assertEquals(Collections.singletonList("@JsonFilterExt property 'missing' does not exist in demo.User"),
+                messages(diagnostics, Diagnostic.Kind.WARNING));
+    }
+
+    @Test
+    public void testValidationNone() {
+        // 测试 jsonviewext.validation=none 时不校验
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = process(
+                Collections.singletonList("-Ajsonviewext.validation=none"),
+                controller("@JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = {\"id\", \"missing\"},"
+                        + " sensitives = @Sensitive(props = \"missing\", keepPrefix = -1, regex = \"(\")))"));
+        assertTrue(messages(diagnostics, Diagnostic.Kind.ERROR).isEmpty());
+        assertTrue(messages(diagnostics, Diagnostic.Kind.WARNING).isEmpty());
+    }
+
+    @Test
+    public void testNegativeKeep() {
+        // 测试 keepPrefix/keepSuffix 为负数时报错
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = process(
+                controller("@JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = {\"id\", \"phone\"},"
+                        + " sensitives = @Sensitive(props = \"phone\", keepPrefix = -1)))"));
+        assertEquals(Collections.singletonList("@Sensitive keepPrefix and keepSuffix must not be negative"),
+                messages(diagnostics, Diagnostic.Kind.ERROR));
+    }
+
+    @Test
+    public void testInvalidRegex() {
+        // 测试非法的正则表达式报错
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = process(
+                controller("@JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = {\"id\", \"phone\"},"
+                        + " sensitives = @Sensitive(props = \"phone\", regex = \"(\\\\d{3}\")))"));
+        List<String> errors = messages(diagnostics, Diagnostic.Kind.ERROR);
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("@Sensitive regex is invalid: "), errors.get(0));
+    }
+
+    @Test
+    public void testAcceptedPropertyNames() {
+        // 测试字段名、@JsonProperty 名称、getter 推导的属性名（含两种命名方式）均视为存在
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = process(
+                controller("@JsonViewExt(include = @JsonFilterExt(clazz = User.class,"
+                        + " props = {\"id\", \"name\", \"full_name\", \"nick\", \"url\", \"URL\", \"active\"},"
+                        + " sensitives = @Sensitive(props = {\"full_name\", \"nick\"}, keepPrefix = 1)))"));
+        assertTrue(messages(diagnostics, Diagnostic.Kind.ERROR).isEmpty());
+        assertTrue(messages(diagnostics, Diagnostic.Kind.WARNING).isEmpty());
+    }
+
+    @Test
+    public void testMethodKeysMatchRuntime() throws Exception {
+        // 测试生成的方法键与 CompiledRules.methodKey(Method) 一致：内部类、数组、泛型参数和基本类型
+        String controller = "package demo;\n"
+                + "\n"
+                + "import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;\n"
+                + "import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;\n"
+                + "import java.util.List;\n"
+                + "import java.util.Map;\n"
+                + "\n"
+                + "public class Outer {\n"
+                + "    public static class Inner {\n"
+                + "        public static class Deep {\n"
+                + "            @JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = \"id\"))\n"
+                + "            public User nested(Inner inner, Deep[] deeps) { return null; }\n"
+                + "        }\n"
+                + "\n"
+                + "        @JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = \"id\"))\n"
+                + "        public User arrays(int[][] matrix, String[] names, Inner.Deep[][] grid) { return null; }\n"
+                + "    }\n"
+                + "\n"
+                + "    @JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = \"id\"))\n"
+                + "    public <T extends Number> User generic(List<Map<String, T>> rows, T value, T[] values) { return null; }\n"
+                + "\n"
+                + "    @JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = \"id\"))\n"
+                + "    public User primitives(long id, boolean flag, char c) { return null; }\n"
+                + "\n"
+                + "    @JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = \"id\"))\n"
+                + "    public User overloaded() { return null; }\n"
+                + "\n"
+                + "    @JsonViewExt(include = @JsonFilterExt(clazz = User.class, props = \"id\"))\n"
+                + "    public User overloaded(Outer.Inner inner) { return null; }\n"
+                + "}\n";
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(
+                Arrays.asList("-d", classes.toString()), source("demo.Outer", controller));
+        assertTrue(messages(diagnostics, Diagnostic.Kind.ERROR).isEmpty(), String.valueOf(diagnostics));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                JsonViewExtProcessorTests.class.getClassLoader())) {
+            CompiledRules rules = CompiledRules.load(classLoader);
+            List<Method> methods = new ArrayList<>();
+            for (String className : Arrays.asList("demo.Outer", "demo.Outer$Inner", "demo.Outer$Inner$Deep")) {
+                for (Method method : classLoader.loadClass(className).getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(JsonViewExt.class)) {
+                        methods.add(method);
+                    }
+                }
+            }
+            assertEquals(6, methods.size());
+            assertEquals(methods.size(), rules.size());
+            for (Method method : methods) {
+                assertTrue(rules.contains(method), CompiledRules.methodKey(method));
+                assertNotNull(rules.createContext(method), CompiledRules.methodKey(method));
+            }
+        }
+    }
+
+    private JavaFileObject controller(String annotation) {
+        return source("demo.Controller", "package demo;\n"
+                + "\n"
+                + "import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;\n"
+                + "import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;\n"
+                + "import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;\n"
+                + "\n"
+                + "public class Controller {\n"
+                + "    " + annotation + "\n"
+                + "    public User view() { return null; }\n"
+                + "}\n");
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> process(JavaFileObject source) {
+        return process(Collections.emptyList(), source);
+    }
+
+    /**
+     * 仅运行注解处理，不生成 class 文件，服务文件写入临时目录
+     */
+    private List<Diagnostic<? extends JavaFileObject>> process(List<String> options, JavaFileObject source) {
+        List<String> allOptions = new ArrayList<>(options);
+        allOptions.addAll(Arrays.asList("-proc:only", "-d", tempDir.toString()));
+        return compile(allOptions, source);
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(List<String> options, JavaFileObject source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "Tests must run on a JDK");
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        List<String> allOptions = new ArrayList<>(options);
+        allOptions.addAll(Arrays.asList("-classpath", classpath(),
+                "-s", tempDir.resolve("generated").toString(), "-Xlint:-options"));
+        try (StandardJavaFileManager fileManager =
+                     compiler.getStandardFileManager(collector, null, StandardCharsets.UTF_8)) {
+            Files.createDirectories(tempDir.resolve("generated"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, collector, allOptions, null,
+                    Arrays.asList(source("demo.User", ENTITY), source));
+            task.setProcessors(Collections.singletonList(new JsonViewExtProcessor()));
+            task.call();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return collector.getDiagnostics();
+    }
+
+    /**
+     * 被编译源码需要的 core 注解和 Jackson 注解
+     */
+    private static String classpath() {
+        try {
+            return new File(JsonViewExt.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    + File.pathSeparator
+                    + new File(JsonProperty.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> messages(List<Diagnostic<? extends JavaFileObject>> diagnostics, Diagnostic.Kind kind) {
+        return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.getKind() == kind)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/')
+                + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
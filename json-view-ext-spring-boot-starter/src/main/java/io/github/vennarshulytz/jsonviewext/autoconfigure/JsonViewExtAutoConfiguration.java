@@ -4,12 +4,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.vennarshulytz.jsonviewext.converter.JsonViewExtMappingJackson2HttpMessageConverter;
 import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
 import io.github.vennarshulytz.jsonviewext.core.JsonViewExtModule;
+import io.github.vennarshulytz.jsonviewext.core.PropertyCostProfiler;
+import io.github.vennarshulytz.jsonviewext.core.SerializationRecorder;
+import io.github.vennarshulytz.jsonviewext.core.ViewWriterCache;
 import io.github.vennarshulytz.jsonviewext.handler.JsonViewExtResponseBodyAdvice;
+import io.github.vennarshulytz.jsonviewext.management.JsonViewExtInspector;
+import io.github.vennarshulytz.jsonviewext.management.JsonViewExtInspectorEndpoint;
+import io.github.vennarshulytz.jsonviewext.metrics.MicrometerSerializationRecorder;
+import io.github.vennarshulytz.jsonviewext.sensitive.MaskedValueCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -18,6 +30,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import javax.annotation.PostConstruct;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JsonViewExt 自动配置类
@@ -26,6 +39,7 @@ import java.util.List;
  * @since 1.0.0
  */
 @Configuration
+@EnableConfigurationProperties(JsonViewExtProperties.class)
 public class JsonViewExtAutoConfiguration {
 
 
@@ -42,6 +56,16 @@ public class JsonViewExtAutoConfiguration {
         return new FilterRuleRegistry();
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = JsonViewExtProperties.PREFIX + ".masked-value-cache", name = "enabled",
+            havingValue = "true")
+    public MaskedValueCache jsonViewExtMaskedValueCache(JsonViewExtProperties properties) {
+        JsonViewExtProperties.MaskedValueCacheProperties cache = properties.getMaskedValueCache();
+        return new MaskedValueCache(cache.getMaxSize(), cache.getTtl().toMillis(), TimeUnit.MILLISECONDS,
+                cache.getScope());
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public JsonViewExtResponseBodyAdvice jsonViewExtResponseBodyAdvice(
@@ -49,6 +73,70 @@ public class JsonViewExtAutoConfiguration {
         return new JsonViewExtResponseBodyAdvice(ruleRegistry);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication
+    @ConditionalOnProperty(prefix = JsonViewExtProperties.PREFIX, name = "prewarm", havingValue = "true")
+    public JsonViewExtPrewarmer jsonViewExtPrewarmer(FilterRuleRegistry ruleRegistry) {
+        return new JsonViewExtPrewarmer(ruleRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication
+    @ConditionalOnProperty(prefix = JsonViewExtProperties.PREFIX + ".warm-up", name = "enabled",
+            havingValue = "true")
+    public JsonViewExtWarmUp jsonViewExtWarmUp(FilterRuleRegistry ruleRegistry, JsonViewExtProperties properties) {
+        JsonViewExtProperties.WarmUpProperties warmUp = properties.getWarmUp();
+        return new JsonViewExtWarmUp(ruleRegistry, warmUp.getIterations(), warmUp.getTimeBudget());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = JsonViewExtProperties.PREFIX + ".inspector", name = "enabled",
+            havingValue = "true")
+    public JsonViewExtInspector jsonViewExtInspector(ObjectProvider<MaskedValueCache> maskedValueCache,
+                                                     ObjectProvider<PropertyCostProfiler> propertyCostProfiler) {
+        JsonViewExtInspector inspector = new JsonViewExtInspector(maskedValueCache.getIfAvailable());
+        inspector.setPropertyCostProfiler(propertyCostProfiler.getIfAvailable());
+        return inspector;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = JsonViewExtProperties.PREFIX + ".profiler", name = "enabled",
+            havingValue = "true")
+    public PropertyCostProfiler jsonViewExtPropertyCostProfiler(JsonViewExtProperties properties) {
+        JsonViewExtProperties.ProfilerProperties profiler = properties.getProfiler();
+        return new PropertyCostProfiler(profiler.getSampleInterval(), profiler.getTopK(),
+                profiler.getLogInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    @ConditionalOnProperty(prefix = JsonViewExtProperties.PREFIX + ".inspector", name = "enabled",
+            havingValue = "true")
+    static class JsonViewExtEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JsonViewExtInspectorEndpoint jsonViewExtInspectorEndpoint(JsonViewExtInspector inspector) {
+            return new JsonViewExtInspectorEndpoint(inspector);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = JsonViewExtProperties.PREFIX + ".metrics", name = "enabled", havingValue = "true")
+    static class JsonViewExtMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(SerializationRecorder.class)
+        public MicrometerSerializationRecorder jsonViewExtSerializationRecorder(MeterRegistry meterRegistry) {
+            return new MicrometerSerializationRecorder(meterRegistry);
+        }
+    }
+
     @Configuration
     @ConditionalOnWebApplication
     static class JsonViewExtWebMvcConfiguration implements WebMvcConfigurer {
@@ -57,6 +145,21 @@ public class JsonViewExtAutoConfiguration {
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private JsonViewExtProperties properties;
+
+        @Autowired(required = false)
+        private MaskedValueCache maskedValueCache;
+
+        @Autowired(required = false)
+        private SerializationRecorder serializationRecorder;
+
+        @Autowired(required = false)
+        private JsonViewExtInspector inspector;
+
+        @Autowired(required = false)
+        private PropertyCostProfiler propertyCostProfiler;
+
         /**
          * 注册自定义 HttpMessageConverter，优先级最高
          */
@@ -69,14 +172,33 @@ public class JsonViewExtAutoConfiguration {
                         && !(converter instanceof JsonViewExtMappingJackson2HttpMessageConverter)) {
 
                     ObjectMapper filterMapper = objectMapper.copy();
-                    filterMapper.registerModule(new JsonViewExtModule());
-                    converters.add(i, new JsonViewExtMappingJackson2HttpMessageConverter(objectMapper, filterMapper));
+                    filterMapper.registerModule(createModule());
+                    JsonViewExtMappingJackson2HttpMessageConverter jsonViewExtConverter =
+                            new JsonViewExtMappingJackson2HttpMessageConverter(objectMapper, filterMapper);
+                    jsonViewExtConverter.setAttributeContext(properties.isAttributeContext());
+                    jsonViewExtConverter.setSerializationRecorder(serializationRecorder);
+                    jsonViewExtConverter.setShadowSampleRate(properties.getMetrics().getShadowSampleRate());
+                    jsonViewExtConverter.setPropertyCostProfiler(propertyCostProfiler);
+                    if (properties.isViewSpecializedWriters()) {
+                        ViewWriterCache viewWriterCache = new ViewWriterCache(objectMapper, this::createModule,
+                                properties.getViewSpecializedWritersMaxSize());
+                        jsonViewExtConverter.setViewWriterCache(viewWriterCache);
+                        if (inspector != null) {
+                            inspector.addViewWriterCache(viewWriterCache);
+                        }
+                    }
+                    converters.add(i, jsonViewExtConverter);
                     break;
                 }
             }
 
 
         }
+
+        private JsonViewExtModule createModule() {
+            return new JsonViewExtModule(maskedValueCache)
+                    .setGeneratedAccessors(properties.isGeneratedAccessors());
+        }
     }
 
 
@@ -0,0 +1,95 @@
+package io.github.vennarshulytz.jsonviewext.autoconfigure;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.vennarshulytz.jsonviewext.converter.JsonViewExtMappingJackson2HttpMessageConverter;
+import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 查找应用中的 @JsonViewExt 接口及其使用的过滤转换器，供启动预热和 JIT 预热使用
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+final class JsonViewExtEndpoints {
+
+    private JsonViewExtEndpoints() {
+    }
+
+    /**
+     * 查找所有标注了 @JsonViewExt 的接口方法，同一方法只返回一次
+     */
+    static List<HandlerMethod> findHandlerMethods(ApplicationContext applicationContext,
+                                                  FilterRuleRegistry ruleRegistry) {
+        List<HandlerMethod> handlerMethods = new ArrayList<>();
+        Set<Method> visited = new HashSet<>();
+        for (RequestMappingHandlerMapping mapping
+                : applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+                Method method = handlerMethod.getMethod();
+                if (ruleRegistry.hasJsonViewExtAnnotation(method) && visited.add(method)) {
+                    handlerMethods.add(handlerMethod);
+                }
+            }
+        }
+        return handlerMethods;
+    }
+
+    /**
+     * 查找 MVC 使用的过滤转换器，未注册时返回 null
+     */
+    static JsonViewExtMappingJackson2HttpMessageConverter findConverter(ApplicationContext applicationContext) {
+        for (RequestMappingHandlerAdapter adapter
+                : applicationContext.getBeansOfType(RequestMappingHandlerAdapter.class).values()) {
+            for (HttpMessageConverter<?> converter : adapter.getMessageConverters()) {
+                if (converter instanceof JsonViewExtMappingJackson2HttpMessageConverter) {
+                    return (JsonViewExtMappingJackson2HttpMessageConverter) converter;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 解析接口输出的数据类型，ResponseEntity 等 HttpEntity 取其响应体类型
+     */
+    static JavaType resolveBodyType(TypeFactory typeFactory, HandlerMethod handlerMethod) {
+        ResolvableType type = ResolvableType.forMethodReturnType(handlerMethod.getMethod(), handlerMethod.getBeanType());
+        if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.as(HttpEntity.class).getGeneric(0);
+        }
+        return toJavaType(typeFactory, type);
+    }
+
+    /**
+     * 按 Spring 解析出的泛型构造 JavaType，无法解析的类型变量按 Object 处理
+     */
+    private static JavaType toJavaType(TypeFactory typeFactory, ResolvableType type) {
+        if (type.isArray()) {
+            return typeFactory.constructArrayType(toJavaType(typeFactory, type.getComponentType()));
+        }
+        Class<?> rawClass = type.resolve(Object.class);
+        ResolvableType[] generics = type.getGenerics();
+        if (generics.length == 0 || generics.length != rawClass.getTypeParameters().length) {
+            return typeFactory.constructType(rawClass);
+        }
+        JavaType[] parameters = new JavaType[generics.length];
+        for (int i = 0; i < generics.length; i++) {
+            parameters[i] = toJavaType(typeFactory, generics[i]);
+        }
+        return typeFactory.constructParametricType(rawClass, parameters);
+    }
+}
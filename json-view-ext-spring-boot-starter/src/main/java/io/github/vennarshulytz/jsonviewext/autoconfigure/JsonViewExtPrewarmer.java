@@ -0,0 +1,154 @@
+package io.github.vennarshulytz.jsonviewext.autoconfigure;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.github.vennarshulytz.jsonviewext.converter.JsonViewExtMappingJackson2HttpMessageConverter;
+import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 启动预热：扫描所有 @JsonViewExt 接口，预先解析过滤规则并解析返回类型的序列化器，避免首次请求变慢
+ * <p>
+ * 预热过程通过 {@link ApplicationStartup} 记录为 {@code json-view-ext.prewarm} 步骤，每个接口对应一个
+ * {@code json-view-ext.prewarm.endpoint} 子步骤；Spring Framework 5.3 之前没有 ApplicationStartup，
+ * 此时照常预热，只是不记录步骤
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class JsonViewExtPrewarmer implements SmartInitializingSingleton, ApplicationContextAware {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonViewExtPrewarmer.class);
+
+    private static final boolean APPLICATION_STARTUP_PRESENT = ClassUtils.isPresent(
+            "org.springframework.core.metrics.ApplicationStartup", JsonViewExtPrewarmer.class.getClassLoader());
+
+    private final FilterRuleRegistry ruleRegistry;
+
+    private ApplicationContext applicationContext;
+
+    public JsonViewExtPrewarmer(FilterRuleRegistry ruleRegistry) {
+        this.ruleRegistry = ruleRegistry;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                JsonViewExtEndpoints.findConverter(applicationContext);
+        if (converter == null) {
+            log.warn("JsonViewExt converter not found, skipping prewarm");
+            return;
+        }
+
+        Function<String, Step> steps;
+        if (APPLICATION_STARTUP_PRESENT) {
+            steps = StartupSteps.of(applicationContext);
+        } else {
+            log.info("ApplicationStartup is not available, JsonViewExt prewarm steps are not recorded");
+            steps = name -> Step.NONE;
+        }
+        Step step = steps.apply("json-view-ext.prewarm");
+        List<HandlerMethod> handlerMethods = Collections.emptyList();
+        int types = 0;
+        try {
+            handlerMethods = JsonViewExtEndpoints.findHandlerMethods(applicationContext, ruleRegistry);
+            for (HandlerMethod handlerMethod : handlerMethods) {
+                types += prewarm(steps, converter, handlerMethod);
+            }
+        } finally {
+            step.tag("endpoints", String.valueOf(handlerMethods.size()));
+            step.tag("types", String.valueOf(types));
+            step.end();
+        }
+        log.info("JsonViewExt prewarmed {} endpoints, {} types", handlerMethods.size(), types);
+    }
+
+    private int prewarm(Function<String, Step> steps, JsonViewExtMappingJackson2HttpMessageConverter converter,
+                        HandlerMethod handlerMethod) {
+        Method method = handlerMethod.getMethod();
+        Step step = steps.apply("json-view-ext.prewarm.endpoint");
+        step.tag("method", method.toGenericString());
+        try {
+            FilterContext context = ruleRegistry.getOrCreateContext(method);
+            JavaType bodyType = JsonViewExtEndpoints.resolveBodyType(
+                    converter.getObjectMapper().getTypeFactory(), handlerMethod);
+            int types = converter.prewarm(context, bodyType);
+            step.tag("types", String.valueOf(types));
+            return types;
+        } catch (Exception e) {
+            step.tag("error", e.getClass().getName());
+            log.warn("Failed to prewarm JsonViewExt endpoint: {}", method, e);
+            return 0;
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * 预热步骤，不记录时使用 {@link #NONE}
+     */
+    private interface Step {
+
+        Step NONE = new Step() {
+            @Override
+            public void tag(String key, String value) {
+            }
+
+            @Override
+            public void end() {
+            }
+        };
+
+        void tag(String key, String value);
+
+        void end();
+    }
+
+    /**
+     * 通过 {@link ApplicationStartup} 记录预热步骤，只在该类存在时加载
+     */
+    private static final class StartupSteps {
+
+        private StartupSteps() {
+        }
+
+        static Function<String, Step> of(ApplicationContext applicationContext) {
+            ApplicationStartup startup = applicationContext instanceof ConfigurableApplicationContext
+                    ? ((ConfigurableApplicationContext) applicationContext).getApplicationStartup()
+                    : ApplicationStartup.DEFAULT;
+            return name -> {
+                StartupStep step = startup.start(name);
+                return new Step() {
+                    @Override
+                    public void tag(String key, String value) {
+                        step.tag(key, value);
+                    }
+
+                    @Override
+                    public void end() {
+                        step.end();
+                    }
+                };
+            };
+        }
+    }
+}
@@ -2,17 +2,36 @@ package io.github.vennarshulytz.jsonviewext.converter;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.github.vennarshulytz.jsonviewext.core.FilterState;
 import io.github.vennarshulytz.jsonviewext.core.JsonViewExtBeanSerializerModifier;
 import io.github.vennarshulytz.jsonviewext.core.JsonViewExtContextHolder;
+import io.github.vennarshulytz.jsonviewext.core.PropertyCostProfiler;
+import io.github.vennarshulytz.jsonviewext.core.PropertyProfile;
+import io.github.vennarshulytz.jsonviewext.core.SerializationRecorder;
+import io.github.vennarshulytz.jsonviewext.core.SerializationStats;
+import io.github.vennarshulytz.jsonviewext.core.ViewWriterCache;
+import io.github.vennarshulytz.jsonviewext.jfr.FilteredWriteEvent;
+import io.github.vennarshulytz.jsonviewext.jfr.JsonViewExtEvents;
+import io.github.vennarshulytz.jsonviewext.jfr.MaskingEvent;
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+import io.github.vennarshulytz.jsonviewext.model.FilterRule;
 import io.github.vennarshulytz.jsonviewext.model.FilteredResponse;
 import org.springframework.http.HttpOutputMessage;
-import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 自定义 HttpMessageConverter
@@ -24,6 +43,31 @@ public class JsonViewExtMappingJackson2HttpMessageConverter extends MappingJacks
 
     private final ObjectMapper filterObjectMapper;
 
+    /**
+     * 是否通过 SerializerProvider 属性传递过滤状态
+     */
+    private boolean attributeContext = false;
+
+    /**
+     * 视图专用 ObjectWriter 缓存，为 null 时不启用
+     */
+    private ViewWriterCache viewWriterCache;
+
+    /**
+     * 过滤序列化指标记录器，为 null 时不统计
+     */
+    private SerializationRecorder serializationRecorder;
+
+    /**
+     * 影子测量的采样比例，0 表示不采样
+     */
+    private double shadowSampleRate = 0;
+
+    /**
+     * 按属性统计开销的采样分析器，为 null 时不采样
+     */
+    private PropertyCostProfiler propertyCostProfiler;
+
     public JsonViewExtMappingJackson2HttpMessageConverter(
             ObjectMapper defaultObjectMapper,
             ObjectMapper filterObjectMapper) {
@@ -31,29 +75,281 @@ public class JsonViewExtMappingJackson2HttpMessageConverter extends MappingJacks
         this.filterObjectMapper = filterObjectMapper;
     }
 
+    /**
+     * 设置是否通过 SerializerProvider 属性传递过滤状态，开启后不使用 ThreadLocal
+     */
+    public void setAttributeContext(boolean attributeContext) {
+        this.attributeContext = attributeContext;
+    }
+
+    /**
+     * 设置视图专用 ObjectWriter 缓存，启用后已冻结的过滤上下文使用绑定了该上下文的 ObjectWriter 输出
+     */
+    public void setViewWriterCache(ViewWriterCache viewWriterCache) {
+        this.viewWriterCache = viewWriterCache;
+    }
+
+    /**
+     * 设置过滤序列化指标记录器，每个由处理方法输出的过滤响应写入后记录一次耗时、字节数和过滤计数
+     */
+    public void setSerializationRecorder(SerializationRecorder serializationRecorder) {
+        this.serializationRecorder = serializationRecorder;
+    }
+
+    /**
+     * 设置影子测量的采样比例（0 ~ 1）：被采样的过滤响应写出后，再用默认 ObjectMapper 不过滤地序列化一次到丢弃输出中，
+     * 将两者的大小和耗时交给指标记录器，用于评估各接口视图节省的字节数和额外开销；未设置指标记录器时不生效
+     */
+    public void setShadowSampleRate(double shadowSampleRate) {
+        if (shadowSampleRate < 0 || shadowSampleRate > 1) {
+            throw new IllegalArgumentException("shadowSampleRate must be between 0 and 1");
+        }
+        this.shadowSampleRate = shadowSampleRate;
+    }
+
+    /**
+     * 设置按属性统计开销的采样分析器，被采样的过滤响应记录每个属性的写出耗时和字节数
+     *
+     * @since 1.2.0
+     */
+    public void setPropertyCostProfiler(PropertyCostProfiler propertyCostProfiler) {
+        this.propertyCostProfiler = propertyCostProfiler;
+    }
+
+    /**
+     * 预热过滤视图：解析过滤 ObjectMapper 中返回类型及其元素类型的序列化器，并编译上下文中各规则的过滤计划
+     *
+     * @param context    过滤上下文
+     * @param returnType 输出的数据类型
+     * @return 预先解析序列化器的类型数量
+     */
+    public int prewarm(FilterContext context, JavaType returnType) throws JsonMappingException {
+        SerializerProvider provider = filterObjectMapper.getSerializerProviderInstance();
+        Set<JavaType> visited = new HashSet<>();
+        prewarmType(provider, returnType, visited);
+
+        for (FilterRule rule : context.getRules()) {
+            JsonSerializer<Object> serializer = provider.findValueSerializer(rule.getTargetClass());
+            if (serializer instanceof JsonViewExtBeanSerializerModifier.JsonViewExtBeanSerializer) {
+                ((JsonViewExtBeanSerializerModifier.JsonViewExtBeanSerializer) serializer).prepare(rule);
+            }
+        }
+        if (viewWriterCache != null) {
+            viewWriterCache.getWriter(context, returnType.getRawClass());
+        }
+        return visited.size();
+    }
+
+    private void prewarmType(SerializerProvider provider, JavaType type, Set<JavaType> visited)
+            throws JsonMappingException {
+        if (type == null || type.isJavaLangObject() || !visited.add(type)) {
+            return;
+        }
+        provider.findValueSerializer(type);
+        // 集合、Map、Optional 等的元素类型在运行时才解析，这里一并预先解析
+        if (type.isContainerType() || type.isReferenceType()) {
+            prewarmType(provider, type.getContentType(), visited);
+        }
+    }
+
     @Override
     protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
             throws IOException, HttpMessageNotWritableException {
 
         if (object instanceof FilteredResponse) {
             FilteredResponse filteredResponse = (FilteredResponse) object;
+            JsonEncoding encoding = getJsonEncoding(outputMessage.getHeaders().getContentType());
+            // 只统计处理方法输出的响应，预热等内部写入不计入
+            boolean recording = serializationRecorder != null && filteredResponse.getHandlerMethod() != null;
+            boolean profiling = propertyCostProfiler != null && filteredResponse.getHandlerMethod() != null
+                    && propertyCostProfiler.shouldSample();
+            FilteredWriteEvent event = JsonViewExtEvents.beginFilteredWrite();
+            MaskingEvent maskingEvent = JsonViewExtEvents.beginMasking();
+            if (!recording && !profiling && event == null && maskingEvent == null) {
+                writeFiltered(filteredResponse, outputMessage.getBody(), encoding, null);
+                return;
+            }
+            SerializationStats stats = new SerializationStats();
+            CountingOutputStream body = new CountingOutputStream(outputMessage.getBody());
+            PropertyProfile profile = profiling ? propertyCostProfiler.newProfile(body::getCount) : null;
+            stats.setPropertyProfile(profile);
+            long start = System.nanoTime();
+            long nanos;
             try {
-                JsonViewExtContextHolder.setContext(filteredResponse.getContext());
-                JsonViewExtBeanSerializerModifier.PathTracker.clear();
-
-                MediaType contentType = outputMessage.getHeaders().getContentType();
-                JsonEncoding encoding = getJsonEncoding(contentType);
-
-                try (JsonGenerator generator = filterObjectMapper.getFactory()
-                        .createGenerator(outputMessage.getBody(), encoding)) {
-                    filterObjectMapper.writeValue(generator, filteredResponse.getData());
-                }
+                writeFiltered(filteredResponse, body, encoding, stats);
             } finally {
-                JsonViewExtContextHolder.clear();
-                JsonViewExtBeanSerializerModifier.PathTracker.reset();
+                nanos = System.nanoTime() - start;
+                if (recording) {
+                    serializationRecorder.record(filteredResponse.getHandlerMethod(), nanos, body.getCount(), stats);
+                }
+                if (profile != null) {
+                    propertyCostProfiler.merge(filteredResponse.getHandlerMethod(), profile);
+                }
+                if (event != null) {
+                    event.finish(filteredResponse.getHandlerMethod(), filteredResponse.getData(), body.getCount(),
+                            stats);
+                }
+                if (maskingEvent != null) {
+                    maskingEvent.finish(filteredResponse.getHandlerMethod(), stats);
+                }
+            }
+            if (recording && shadowSampleRate > 0
+                    && ThreadLocalRandom.current().nextDouble() < shadowSampleRate) {
+                recordShadow(filteredResponse, encoding, nanos, body.getCount());
             }
         } else {
             super.writeInternal(object, type, outputMessage);
         }
     }
+
+    /**
+     * 影子测量：用默认 ObjectMapper 不过滤地序列化同一数据并丢弃输出，只统计大小和耗时；
+     * 响应已经写出，失败时只记录日志
+     */
+    private void recordShadow(FilteredResponse filteredResponse, JsonEncoding encoding,
+                              long filteredNanos, long filteredBytes) {
+        ObjectMapper objectMapper = getObjectMapper();
+        CountingOutputStream sink = new CountingOutputStream(null);
+        long start = System.nanoTime();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(sink, encoding)) {
+            objectMapper.writeValue(generator, filteredResponse.getData());
+        } catch (IOException | RuntimeException ex) {
+            logger.debug("Shadow serialization failed for " + filteredResponse.getHandlerMethod(), ex);
+            return;
+        }
+        serializationRecorder.recordShadow(filteredResponse.getHandlerMethod(), filteredNanos, filteredBytes,
+                System.nanoTime() - start, sink.getCount());
+    }
+
+    /**
+     * 按配置选择视图专用 ObjectWriter、SerializerProvider 属性或 ThreadLocal 传递过滤状态进行序列化
+     *
+     * @param stats 本次序列化的计数，未启用指标时为 null
+     */
+    private void writeFiltered(FilteredResponse filteredResponse, OutputStream body, JsonEncoding encoding,
+                               SerializationStats stats) throws IOException {
+        ObjectWriter viewWriter = getViewWriter(filteredResponse);
+        if (viewWriter != null) {
+            writeWithViewWriter(viewWriter, filteredResponse, body, encoding, stats);
+            return;
+        }
+        if (attributeContext) {
+            writeWithAttributes(filteredResponse, body, encoding, stats);
+            return;
+        }
+        try {
+            JsonViewExtContextHolder.setContext(filteredResponse.getContext());
+            JsonViewExtBeanSerializerModifier.PathTracker.clear();
+            JsonViewExtBeanSerializerModifier.PathTracker.getPathStack().setStats(stats);
+
+            try (JsonGenerator generator = filterObjectMapper.getFactory().createGenerator(body, encoding)) {
+                filterObjectMapper.writeValue(generator, filteredResponse.getData());
+            }
+        } finally {
+            JsonViewExtContextHolder.clear();
+            JsonViewExtBeanSerializerModifier.PathTracker.reset();
+        }
+    }
+
+    /**
+     * 通过 SerializerProvider 属性传递过滤状态进行序列化
+     */
+    private void writeWithAttributes(FilteredResponse filteredResponse, OutputStream body, JsonEncoding encoding,
+                                     SerializationStats stats) throws IOException {
+        FilterState state = newFilterState(filteredResponse, stats);
+        ObjectWriter writer = filterObjectMapper.writer().withAttribute(FilterState.ATTRIBUTE_KEY, state);
+
+        try (JsonGenerator generator = filterObjectMapper.getFactory().createGenerator(body, encoding)) {
+            writer.writeValue(generator, filteredResponse.getData());
+        } finally {
+            state.getPathStack().flushCounters();
+        }
+    }
+
+    private ObjectWriter getViewWriter(FilteredResponse filteredResponse) {
+        Object data = filteredResponse.getData();
+        if (viewWriterCache == null || data == null) {
+            return null;
+        }
+        return viewWriterCache.getWriter(filteredResponse.getContext(), data.getClass());
+    }
+
+    /**
+     * 使用视图专用 ObjectWriter 进行序列化，上下文已绑定在序列化器上，只需维护路径状态
+     */
+    private void writeWithViewWriter(ObjectWriter viewWriter, FilteredResponse filteredResponse,
+                                     OutputStream body, JsonEncoding encoding,
+                                     SerializationStats stats) throws IOException {
+        FilterState state = attributeContext ? newFilterState(filteredResponse, stats) : null;
+        ObjectWriter writer = state != null ? viewWriter.withAttribute(FilterState.ATTRIBUTE_KEY, state) : viewWriter;
+
+        try {
+            if (state == null) {
+                JsonViewExtBeanSerializerModifier.PathTracker.clear();
+                JsonViewExtBeanSerializerModifier.PathTracker.getPathStack().setStats(stats);
+            }
+            try (JsonGenerator generator = writer.getFactory().createGenerator(body, encoding)) {
+                writer.writeValue(generator, filteredResponse.getData());
+            }
+        } finally {
+            if (state != null) {
+                state.getPathStack().flushCounters();
+            } else {
+                JsonViewExtBeanSerializerModifier.PathTracker.reset();
+            }
+        }
+    }
+
+    private static FilterState newFilterState(FilteredResponse filteredResponse, SerializationStats stats) {
+        FilterState state = new FilterState(filteredResponse.getContext());
+        state.getPathStack().setStats(stats);
+        return state;
+    }
+
+    /**
+     * 统计写出字节数的输出流，out 为 null 时只计数并丢弃输出
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (out != null) {
+                out.write(b);
+            }
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (out != null) {
+                out.write(b, off, len);
+            }
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (out != null) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) {
+                out.close();
+            }
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package io.github.vennarshulytz.jsonviewext.management;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 以 Actuator 端点 {@value #ID} 提供 {@link JsonViewExtInspector} 的内容：
+ * GET 查看已解析视图、内部缓存和开销最高的属性，DELETE /{cache} 按名称清空缓存
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@Endpoint(id = JsonViewExtInspectorEndpoint.ID)
+public class JsonViewExtInspectorEndpoint {
+
+    public static final String ID = "jsonviewext";
+
+    private final JsonViewExtInspector inspector;
+
+    public JsonViewExtInspectorEndpoint(JsonViewExtInspector inspector) {
+        this.inspector = inspector;
+    }
+
+    @ReadOperation
+    public Map<String, Object> inspect() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("views", inspector.getViews());
+        result.put("caches", inspector.getCaches());
+        result.put("expensiveProperties", inspector.getExpensiveProperties());
+        return result;
+    }
+
+    /**
+     * 按名称清空缓存，名称见 {@link JsonViewExtInspector#purge(String)}
+     */
+    @DeleteOperation
+    public Map<String, Object> purge(@Selector String cache) {
+        int removed;
+        try {
+            removed = inspector.purge(cache);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Unknown or non-clearable cache");
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cache", cache);
+        result.put("removed", removed);
+        return result;
+    }
+}
@@ -1,19 +1,94 @@
 package io.github.vennarshulytz.jsonviewext;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;
+import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;
+import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;
+import io.github.vennarshulytz.jsonviewext.autoconfigure.JsonViewExtAutoConfiguration;
+import io.github.vennarshulytz.jsonviewext.autoconfigure.JsonViewExtWarmUp;
+import io.github.vennarshulytz.jsonviewext.converter.JsonViewExtMappingJackson2HttpMessageConverter;
+import io.github.vennarshulytz.jsonviewext.core.CacheStats;
+import io.github.vennarshulytz.jsonviewext.core.CompiledRules;
+import io.github.vennarshulytz.jsonviewext.core.FilterPlan;
+import io.github.vennarshulytz.jsonviewext.core.FilterPlanCache;
+import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
+import io.github.vennarshulytz.jsonviewext.core.FilterState;
 import io.github.vennarshulytz.jsonviewext.core.JsonViewExtContextHolder;
 import io.github.vennarshulytz.jsonviewext.core.JsonViewExtModule;
+import io.github.vennarshulytz.jsonviewext.core.PropertyCost;
+import io.github.vennarshulytz.jsonviewext.core.PropertyCostProfiler;
+import io.github.vennarshulytz.jsonviewext.core.TypeCategory;
+import io.github.vennarshulytz.jsonviewext.core.ViewWriterCache;
+import io.github.vennarshulytz.jsonviewext.jfr.JsonViewExtEvents;
+import io.github.vennarshulytz.jsonviewext.management.JsonViewExtInspector;
+import io.github.vennarshulytz.jsonviewext.management.JsonViewExtInspectorEndpoint;
+import io.github.vennarshulytz.jsonviewext.metrics.MicrometerSerializationRecorder;
 import io.github.vennarshulytz.jsonviewext.model.FilterContext;
 import io.github.vennarshulytz.jsonviewext.model.FilterRule;
+import io.github.vennarshulytz.jsonviewext.model.FilteredResponse;
+import io.github.vennarshulytz.jsonviewext.model.PathNode;
+import io.github.vennarshulytz.jsonviewext.sensitive.MaskedValueCache;
 import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveType;
 import io.github.vennarshulytz.jsonviewext.sensitive.impl.EmailType;
 import io.github.vennarshulytz.jsonviewext.sensitive.impl.IdCardType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.MaskType;
 import io.github.vennarshulytz.jsonviewext.sensitive.impl.PhoneType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.jmx.export.annotation.AnnotationMBeanExporter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,7 +99,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * @author vennarshulytz
  * @since 1.0.0
  */
-@SpringBootTest
+@SpringBootTest(classes = {JacksonAutoConfiguration.class, JsonViewExtAutoConfiguration.class})
 public class JsonViewExtTests {
 
     private ObjectMapper objectMapper;
@@ -148,6 +223,91 @@ public class JsonViewExtTests {
         assertEquals(ImmutableSet.of("id", "name"), generalFound.getProps());
     }
 
+    @Test
+    public void testFrozenFilterContext() {
+        FilterRule generalExclude = new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("value"), false, ImmutableMap.of());
+        FilterRule specificExclude = new FilterRule(
+                TestEntity.class, "nested",
+                ImmutableSet.of("name"), false, ImmutableMap.of());
+        FilterRule generalInclude = new FilterRule(
+                TestParent.class, "",
+                ImmutableSet.of("child"), true, ImmutableMap.of());
+
+        FilterContext context = new FilterContext();
+        context.addExcludeRule(generalExclude);
+        context.addExcludeRule(specificExclude);
+        context.addIncludeRule(generalInclude);
+        assertSame(context, context.freeze());
+        assertTrue(context.isFrozen());
+
+        // 合并后的查找结果与合并前的优先级一致
+        assertSame(specificExclude, context.getApplicableRule(TestEntity.class, "nested"));
+        assertSame(generalExclude, context.getApplicableRule(TestEntity.class, ""));
+        assertSame(generalExclude, context.getApplicableRule(TestEntity.class, "other"));
+        assertSame(generalInclude, context.getApplicableRule(TestParent.class, "nested"));
+        assertNull(context.getApplicableRule(String.class, "nested"));
+
+        // 只有规则的目标类型需要查找规则
+        assertTrue(context.isTargetClass(TestEntity.class));
+        assertTrue(context.isTargetClass(TestParent.class));
+        assertFalse(context.isTargetClass(String.class));
+
+        assertThrows(IllegalStateException.class, () -> context.addIncludeRule(generalInclude));
+    }
+
+    @Test
+    public void testTypeCategory() {
+        Map<Class<?>, TypeCategory> expected = new LinkedHashMap<>();
+        expected.put(int.class, TypeCategory.SCALAR);
+        expected.put(boolean.class, TypeCategory.SCALAR);
+        expected.put(Integer.class, TypeCategory.SCALAR);
+        expected.put(Long.class, TypeCategory.SCALAR);
+        expected.put(Boolean.class, TypeCategory.SCALAR);
+        expected.put(Character.class, TypeCategory.SCALAR);
+        expected.put(Object.class, TypeCategory.SCALAR);
+        expected.put(String.class, TypeCategory.SCALAR);
+        expected.put(StringBuilder.class, TypeCategory.SCALAR);
+        expected.put(BigDecimal.class, TypeCategory.SCALAR);
+        expected.put(AtomicLong.class, TypeCategory.SCALAR);
+        expected.put(TimeUnit.class, TypeCategory.SCALAR);
+        expected.put(RoundingMode.class, TypeCategory.SCALAR);
+        expected.put(LocalDate.class, TypeCategory.SCALAR);
+        expected.put(Instant.class, TypeCategory.SCALAR);
+        expected.put(Date.class, TypeCategory.SCALAR);
+        expected.put(Timestamp.class, TypeCategory.SCALAR);
+        expected.put(HashMap.class, TypeCategory.MAP);
+        expected.put(Collections.emptyMap().getClass(), TypeCategory.MAP);
+        expected.put(ArrayList.class, TypeCategory.COLLECTION);
+        expected.put(HashSet.class, TypeCategory.COLLECTION);
+        expected.put(Arrays.asList("a").getClass(), TypeCategory.COLLECTION);
+        expected.put(int[].class, TypeCategory.PRIMITIVE_ARRAY);
+        expected.put(byte[].class, TypeCategory.PRIMITIVE_ARRAY);
+        expected.put(String[].class, TypeCategory.OBJECT_ARRAY);
+        expected.put(TestEntity[].class, TypeCategory.OBJECT_ARRAY);
+        expected.put(TestEntity.class, TypeCategory.BEAN);
+        expected.put(UUID.class, TypeCategory.BEAN);
+
+        for (Map.Entry<Class<?>, TypeCategory> entry : expected.entrySet()) {
+            Class<?> type = entry.getKey();
+            assertEquals(entry.getValue(), TypeCategory.of(type), type.getName());
+            // 与替换前 isComplexType 的判定保持一致
+            assertEquals(isComplexType(type), TypeCategory.of(type).isComplex(), type.getName());
+        }
+    }
+
+    private static boolean isComplexType(Class<?> clazz) {
+        return !clazz.isPrimitive()
+                && !clazz.getName().startsWith("java.lang")
+                && !clazz.getName().startsWith("java.math")
+                && !clazz.getName().startsWith("java.time")
+                && !clazz.isEnum()
+                && !Number.class.isAssignableFrom(clazz)
+                && !CharSequence.class.isAssignableFrom(clazz)
+                && !Date.class.isAssignableFrom(clazz);
+    }
+
     @Test
     public void testSerializationWithFilter() throws Exception {
         TestEntity entity = new TestEntity();
@@ -173,6 +333,864 @@ public class JsonViewExtTests {
         }
     }
 
+    @Test
+    public void testFilterPlanPerRule() throws Exception {
+        TestEntity entity = new TestEntity();
+        entity.setId("123");
+        entity.setName("Test");
+        entity.setValue("Secret");
+
+        // 两个规则的类型和路径相同，但属性不同，过滤计划不能互相复用
+        FilterContext idContext = new FilterContext();
+        idContext.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("id"), true, ImmutableMap.of()));
+        FilterContext valueContext = new FilterContext();
+        valueContext.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("value"), true, ImmutableMap.of("value", PhoneType.class)));
+
+        try {
+            JsonViewExtContextHolder.setContext(idContext);
+            assertEquals("{\"id\":\"123\"}", objectMapper.writeValueAsString(entity));
+
+            JsonViewExtContextHolder.setContext(valueContext);
+            assertEquals("{\"value\":\"Secret\"}", objectMapper.writeValueAsString(entity));
+
+            entity.setValue("12345678901");
+            assertEquals("{\"value\":\"123****8901\"}", objectMapper.writeValueAsString(entity));
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+    }
+
+    @Test
+    public void testUntargetedMiddleLayerDelegates() throws Exception {
+        GraphLeaf leaf = new GraphLeaf();
+        leaf.setId("1");
+        leaf.setValue("12345678901");
+        leaf.setHidden("Hidden");
+        GraphMiddle middle = new GraphMiddle();
+        middle.setLabel("Middle");
+        middle.setLeaf(leaf);
+        GraphRoot root = new GraphRoot();
+        root.setName("Root");
+        root.setSecret("Secret");
+        root.setMiddle(middle);
+
+        RecordingFilterContext context = new RecordingFilterContext();
+        context.addIncludeRule(new FilterRule(
+                GraphRoot.class, "",
+                ImmutableSet.of("name", "middle"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                GraphLeaf.class, "middle",
+                ImmutableSet.of("id", "value"), true, ImmutableMap.of("value", PhoneType.class)));
+
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            // 中间层不是规则目标，原样输出；其下的目标类型仍按规则过滤
+            assertEquals("{\"name\":\"Root\",\"middle\":{\"label\":\"Middle\","
+                            + "\"leaf\":{\"id\":\"1\",\"value\":\"123****8901\"}}}",
+                    objectMapper.writeValueAsString(root));
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+
+        // 中间层直接交给默认序列化器：不查找规则，也不压入路径，叶子对象按根对象压入的 middle 路径匹配规则
+        assertEquals(Arrays.asList(GraphRoot.class, GraphLeaf.class), context.lookups);
+        assertEquals(Arrays.asList("", "middle"), context.paths);
+    }
+
+    @Test
+    public void testHeterogeneousElementsAtSamePath() throws Exception {
+        MixedBag bag = new MixedBag();
+        bag.setItems(Arrays.asList(new MixedA("a1", "A1"), new MixedB("b1", "B1"),
+                new MixedA("a2", "A2"), new MixedB("b2", "B2")));
+        bag.setArray(new Object[]{new MixedB("b3", "B3"), new MixedA("a3", "A3")});
+
+        RecordingFilterContext context = new RecordingFilterContext();
+        context.addIncludeRule(new FilterRule(
+                MixedBag.class, "",
+                ImmutableSet.of("items", "array"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                MixedA.class, "", ImmutableSet.of("secret"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                MixedB.class, "", ImmutableSet.of("secret"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                MixedA.class, "items", ImmutableSet.of("id"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                MixedB.class, "items", ImmutableSet.of("name"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                MixedA.class, "array", ImmutableSet.of("name"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                MixedB.class, "array", ImmutableSet.of("id"), true, ImmutableMap.of()));
+
+        String expected = "{\"items\":[{\"id\":\"a1\"},{\"name\":\"B1\"},{\"id\":\"a2\"},{\"name\":\"B2\"}],"
+                + "\"array\":[{\"id\":\"b3\"},{\"name\":\"A3\"}]}";
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            // 元素类型交替变化时每个元素都要换用对应的序列化器；第二次写出走已缓存的元素序列化器
+            assertEquals(expected, objectMapper.writeValueAsString(bag));
+            assertEquals(expected, objectMapper.writeValueAsString(bag));
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+
+        // 集合只入栈一次，每个元素都按集合属性的路径查找规则
+        List<String> paths = Arrays.asList("", "items", "items", "items", "items", "array", "array");
+        List<String> expectedPaths = new ArrayList<>(paths);
+        expectedPaths.addAll(paths);
+        assertEquals(expectedPaths, context.paths);
+    }
+
+    @Test
+    public void testSerializationWithNestedPath() throws Exception {
+        TestEntity child = new TestEntity();
+        child.setId("2");
+        child.setName("Child");
+        child.setValue("Secret");
+        TestEntity other = new TestEntity();
+        other.setId("3");
+        other.setName("Other");
+        other.setValue("Secret");
+
+        TestParent parent = new TestParent();
+        parent.setChild(child);
+        parent.setChildren(Arrays.asList(other, null));
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestParent.class, "",
+                ImmutableSet.of("child", "children"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("id"), true, ImmutableMap.of()));
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "child",
+                ImmutableSet.of("name"), true, ImmutableMap.of()));
+
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            String json = objectMapper.writeValueAsString(parent);
+
+            assertEquals("{\"child\":{\"name\":\"Child\"},\"children\":[{\"id\":\"3\"},null]}", json);
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+    }
+
+    @Test
+    public void testSerializationWithAttributeContext() throws Exception {
+        TestEntity entity = new TestEntity();
+        entity.setId("123");
+        entity.setName("Test");
+        entity.setValue("Secret");
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("id", "name"), true, ImmutableMap.of()));
+
+        // 不设置线程本地上下文，过滤状态通过 SerializerProvider 属性传递
+        String json = objectMapper.writer()
+                .withAttribute(FilterState.ATTRIBUTE_KEY, new FilterState(context))
+                .writeValueAsString(entity);
+
+        assertEquals("{\"id\":\"123\",\"name\":\"Test\"}", json);
+        assertFalse(JsonViewExtContextHolder.hasContext());
+    }
+
+    @Test
+    public void testFilteredGetterCalledOnce() throws Exception {
+        CountingEntity entity = new CountingEntity();
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                CountingEntity.class, "",
+                ImmutableSet.of("name", "child"), true, ImmutableMap.of()));
+
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            String json = objectMapper.writeValueAsString(entity);
+
+            assertEquals("{\"name\":\"Counting\",\"child\":{\"id\":\"1\",\"name\":\"Child\",\"value\":\"Value\"}}", json);
+            assertEquals(1, entity.nameCalls);
+            assertEquals(1, entity.childCalls);
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+    }
+
+    @Test
+    public void testPropertyFailureKeepsJsonValid() throws Exception {
+        FailingEntity entity = new FailingEntity();
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                FailingEntity.class, "",
+                ImmutableSet.of("id", "phone", "items", "child", "name"), true, ImmutableMap.of("phone", ThrowingType.class)));
+
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            String json = objectMapper.writeValueAsString(entity);
+
+            // 脱敏处理器抛出异常时输出原值；集合元素和嵌套对象写到一半失败时补全结构，后续属性照常写出
+            assertEquals("{\"id\":\"1\",\"phone\":\"13812345678\",\"items\":[{\"name\":\"Item\"}],"
+                    + "\"child\":{\"name\":\"Item\"},\"name\":\"Failing\"}", json);
+            assertTrue(objectMapper.readTree(json).isObject());
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+    }
+
+    @Test
+    public void testPrimitiveArraySerialization() throws Exception {
+        ArrayEntity entity = new ArrayEntity();
+
+        FilterContext context = new FilterContext();
+        context.addExcludeRule(new FilterRule(
+                ArrayEntity.class, "",
+                ImmutableSet.of("names"), false, ImmutableMap.of()));
+
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            String json = objectMapper.writeValueAsString(entity);
+
+            // 与未过滤时的输出保持一致，byte[] 输出为 Base64
+            assertEquals("{\"ints\":[1,2],\"longs\":[3],\"doubles\":[1.5,2.25],\"bytes\":\"AQID\"}", json);
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+    }
+
+    @Test
+    public void testBufferedDesensitizeMatchesString() {
+        SensitiveType[] types = {new PhoneType(), new EmailType(), new IdCardType()};
+        String[] values = {"", "1234567", "12345678901", "123456789012345678",
+                "3530163057@qq.com", "abc@qq.com", "@qq.com", "no-at-sign"};
+        char[] scratch = new char[64];
+        for (SensitiveType type : types) {
+            for (String value : values) {
+                int length = type.desensitize(value, scratch);
+                assertEquals(type.desensitize(value), new String(scratch, 0, length));
+            }
+        }
+    }
+
+    @Test
+    public void testParameterizedMaskType() throws Exception {
+        assertEquals("35********@qq.com", MaskType.of(2, 7, '*', "").desensitize("3530163057@qq.com"));
+        assertEquals("ab-**-**", MaskType.of(2, 0, '*', "\\d").desensitize("ab-12-34"));
+        assertEquals("1234", MaskType.of(2, 2, '*', "").desensitize("1234"));
+        assertSame(MaskType.of(3, 4, '#', ""), MaskType.of(3, 4, '#', ""));
+
+        TestEntity entity = new TestEntity();
+        entity.setId("123");
+        entity.setValue("12345678901");
+
+        Method method = JsonViewExtTests.class.getDeclaredMethod("maskedView");
+        FilterContext context = new FilterRuleRegistry().getOrCreateContext(method);
+        FilterRule rule = context.getApplicableRule(TestEntity.class, "");
+        assertSame(MaskType.of(2, 1, '#', ""), rule.getSensitiveHandler("value"));
+
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            assertEquals("{\"id\":\"123\",\"value\":\"12########1\"}", objectMapper.writeValueAsString(entity));
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+
+        // 清空视图时一并清空参数化实例缓存，已解析的规则继续持有原实例
+        SensitiveType held = rule.getSensitiveHandler("value");
+        assertTrue(FilterRuleRegistry.purgeCache(FilterRuleRegistry.VIEWS_CACHE) >= 1);
+        assertEquals(0, MaskType.getCacheStats().getSize());
+        assertNotSame(held, MaskType.of(2, 1, '#', ""));
+        assertEquals("12########1", held.desensitize("12345678901"));
+    }
+
+    @Test
+    public void testMaskedValueCache() throws Exception {
+        TestEntity first = new TestEntity();
+        first.setValue("12345678901");
+        TestEntity second = new TestEntity();
+        second.setValue("12345678901");
+        List<TestEntity> entities = Arrays.asList(first, second);
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("value"), true, ImmutableMap.of("value", PhoneType.class)));
+        String expected = "[{\"value\":\"123****8901\"},{\"value\":\"123****8901\"}]";
+
+        // 全局缓存：相同的值只脱敏一次
+        MaskedValueCache globalCache = new MaskedValueCache(100, 0, TimeUnit.MILLISECONDS,
+                MaskedValueCache.Scope.GLOBAL);
+        ObjectMapper globalMapper = new ObjectMapper().registerModule(new JsonViewExtModule(globalCache));
+        // 单次序列化作用域：每次序列化使用独立缓存
+        MaskedValueCache requestCache = new MaskedValueCache(100, 0, TimeUnit.MILLISECONDS,
+                MaskedValueCache.Scope.REQUEST);
+        ObjectMapper requestMapper = new ObjectMapper().registerModule(new JsonViewExtModule(requestCache));
+
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            assertEquals(expected, globalMapper.writeValueAsString(entities));
+            assertEquals(expected, globalMapper.writeValueAsString(entities));
+            assertEquals(1, globalCache.getMissCount());
+            assertEquals(3, globalCache.getHitCount());
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expected, requestMapper.writer()
+                    .withAttribute(FilterState.ATTRIBUTE_KEY, new FilterState(context))
+                    .writeValueAsString(entities));
+        }
+        assertEquals(2, requestCache.getMissCount());
+        assertEquals(2, requestCache.getHitCount());
+        assertEquals(0, requestCache.size());
+
+        // 容量不足时淘汰最近最少使用的值，频繁出现的值一直保留在缓存中
+        SensitiveType handler = SensitiveHandler.getHandler(PhoneType.class);
+        MaskedValueCache boundedCache = new MaskedValueCache(10, 0, TimeUnit.MILLISECONDS,
+                MaskedValueCache.Scope.GLOBAL);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("123****8901", boundedCache.desensitize(handler, "12345678901"));
+            boundedCache.desensitize(handler, "1390000" + (1000 + i));
+        }
+        assertEquals(99, boundedCache.getHitCount());
+        assertEquals(101, boundedCache.getMissCount());
+        assertEquals(10, boundedCache.size());
+        assertEquals(91, boundedCache.getEvictionCount());
+    }
+
+    @Test
+    public void testGeneratedAccessorsProduceIdenticalOutput() throws Exception {
+        TestEntity child = new TestEntity();
+        child.setId("2");
+        child.setName("Child");
+        child.setValue("12345678901");
+        TestParent parent = new TestParent();
+        parent.setChild(child);
+        parent.setChildren(Arrays.asList(child, null));
+        ArrayEntity arrays = new ArrayEntity();
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestParent.class, "",
+                ImmutableSet.of("child", "children"), true, ImmutableMap.of()));
+        context.addExcludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("name"), false, ImmutableMap.of("value", PhoneType.class)));
+        context.addExcludeRule(new FilterRule(
+                ArrayEntity.class, "",
+                ImmutableSet.of("names"), false, ImmutableMap.of()));
+
+        ObjectMapper generatedMapper = new ObjectMapper()
+                .registerModule(new JsonViewExtModule().setGeneratedAccessors(true));
+
+        // 生成的访问器覆盖所有公共 getter
+        BeanSerializerBase serializer = (BeanSerializerBase) new ObjectMapper()
+                .getSerializerProviderInstance().findValueSerializer(TestEntity.class);
+        for (FilterPlan.Entry entry : FilterPlan.compile(serializer, context.getApplicableRule(TestEntity.class, ""), true)
+                .getEntries()) {
+            assertTrue(entry.hasGeneratedAccessor(), entry.getName());
+        }
+
+        try {
+            JsonViewExtContextHolder.setContext(context);
+            for (Object value : Arrays.asList(parent, arrays, child)) {
+                assertArrayEquals(objectMapper.writeValueAsBytes(value), generatedMapper.writeValueAsBytes(value));
+            }
+        } finally {
+            JsonViewExtContextHolder.clear();
+        }
+    }
+
+    @Test
+    public void testViewSpecializedWriters() throws Exception {
+        TestEntity child = new TestEntity();
+        child.setId("2");
+        child.setName("Child");
+        child.setValue("12345678901");
+        TestParent parent = new TestParent();
+        parent.setChild(child);
+        parent.setChildren(Arrays.asList(child, null));
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("id", "value"), true, ImmutableMap.of("value", PhoneType.class)));
+
+        ViewWriterCache viewWriterCache = new ViewWriterCache(new ObjectMapper(), JsonViewExtModule::new);
+        // 未冻结的上下文可能继续变化，不缓存
+        assertNull(viewWriterCache.getWriter(context, TestParent.class));
+        context.freeze();
+        assertSame(viewWriterCache.getWriter(context, TestParent.class),
+                viewWriterCache.getWriter(context, TestParent.class));
+
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                new JsonViewExtMappingJackson2HttpMessageConverter(new ObjectMapper(), objectMapper);
+        JsonViewExtMappingJackson2HttpMessageConverter viewConverter =
+                new JsonViewExtMappingJackson2HttpMessageConverter(new ObjectMapper(), objectMapper);
+        viewConverter.setViewWriterCache(viewWriterCache);
+
+        for (boolean attributeContext : new boolean[]{false, true}) {
+            converter.setAttributeContext(attributeContext);
+            viewConverter.setAttributeContext(attributeContext);
+            for (Object data : Arrays.asList(parent, child, Arrays.asList(parent, parent))) {
+                MockHttpOutputMessage expected = new MockHttpOutputMessage();
+                converter.write(new FilteredResponse(data, context), MediaType.APPLICATION_JSON, expected);
+                MockHttpOutputMessage actual = new MockHttpOutputMessage();
+                viewConverter.write(new FilteredResponse(data, context), MediaType.APPLICATION_JSON, actual);
+
+                assertArrayEquals(expected.getBodyAsBytes(), actual.getBodyAsBytes());
+            }
+        }
+        assertEquals("{\"child\":{\"id\":\"2\",\"value\":\"123****8901\"},\"children\":[{\"id\":\"2\",\"value\":\"123****8901\"},null]}",
+                viewWriterCache.getWriter(context, TestParent.class)
+                        .withAttribute(FilterState.ATTRIBUTE_KEY, new FilterState(context))
+                        .writeValueAsString(parent));
+        assertEquals(1, viewWriterCache.size());
+
+        // 视图数超过上限时淘汰最久未使用的视图
+        ViewWriterCache boundedCache = new ViewWriterCache(new ObjectMapper(), JsonViewExtModule::new, 2);
+        FilterContext second = new FilterContext().freeze();
+        FilterContext third = new FilterContext().freeze();
+        boundedCache.getWriter(context, TestParent.class);
+        boundedCache.getWriter(second, TestParent.class);
+        boundedCache.getWriter(context, TestParent.class);
+        boundedCache.getWriter(third, TestParent.class);
+        assertEquals(2, boundedCache.size());
+        assertEquals(1, boundedCache.getStats().getEvictions());
+        boundedCache.getWriter(context, TestParent.class);
+        assertEquals(2, boundedCache.getStats().getHits());
+    }
+
+    @Test
+    public void testSerializationMetrics() throws Exception {
+        TestEntity child = new TestEntity();
+        child.setId("2");
+        child.setName("Child");
+        child.setValue("12345678901");
+        TestParent parent = new TestParent();
+        parent.setChild(child);
+        parent.setChildren(Arrays.asList(child, null));
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("id", "value"), true, ImmutableMap.of("value", PhoneType.class)));
+        Method handler = JsonViewExtTests.class.getDeclaredMethod("maskedView");
+
+        for (boolean attributeContext : new boolean[]{false, true}) {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            JsonViewExtMappingJackson2HttpMessageConverter converter =
+                    new JsonViewExtMappingJackson2HttpMessageConverter(new ObjectMapper(), objectMapper);
+            converter.setAttributeContext(attributeContext);
+            converter.setSerializationRecorder(new MicrometerSerializationRecorder(registry));
+
+            MockHttpOutputMessage output = new MockHttpOutputMessage();
+            converter.write(new FilteredResponse(parent, context, handler), MediaType.APPLICATION_JSON, output);
+            // 没有处理方法的写入（如预热）不计入
+            converter.write(new FilteredResponse(parent, context), MediaType.APPLICATION_JSON,
+                    new MockHttpOutputMessage());
+
+            assertEquals("{\"child\":{\"id\":\"2\",\"value\":\"123****8901\"},\"children\":[{\"id\":\"2\",\"value\":\"123****8901\"},null]}",
+                    output.getBodyAsString());
+            String handlerTag = JsonViewExtTests.class.getName() + "#maskedView";
+            assertEquals(1, registry.get("jsonviewext.serialization").tag("handler", handlerTag).timer().count());
+            assertEquals(output.getBodyAsBytes().length,
+                    registry.get("jsonviewext.serialization.size").tag("handler", handlerTag).summary().totalAmount());
+            assertEquals(2, registry.get("jsonviewext.beans.filtered").tag("handler", handlerTag).counter().count());
+            assertEquals(2, registry.get("jsonviewext.fields.dropped").tag("handler", handlerTag).counter().count());
+            assertEquals(2, registry.get("jsonviewext.fields.masked").tag("handler", handlerTag).counter().count());
+            assertEquals(0, registry.get("jsonviewext.errors").tag("handler", handlerTag).counter().count());
+            assertEquals(1, registry.find("jsonviewext.serialization").timers().size());
+        }
+    }
+
+    @Test
+    public void testShadowSampling() throws Exception {
+        TestEntity child = new TestEntity();
+        child.setId("2");
+        child.setName("Child");
+        child.setValue("12345678901");
+        TestParent parent = new TestParent();
+        parent.setChild(child);
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("id", "value"), true, ImmutableMap.of("value", PhoneType.class)));
+        Method handler = JsonViewExtTests.class.getDeclaredMethod("maskedView");
+        ObjectMapper defaultMapper = new ObjectMapper();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                new JsonViewExtMappingJackson2HttpMessageConverter(defaultMapper, objectMapper);
+        converter.setSerializationRecorder(new MicrometerSerializationRecorder(registry));
+
+        // 未开启采样时不注册影子指标
+        converter.write(new FilteredResponse(parent, context, handler), MediaType.APPLICATION_JSON,
+                new MockHttpOutputMessage());
+        assertTrue(registry.find("jsonviewext.shadow.size").meters().isEmpty());
+
+        converter.setShadowSampleRate(1);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(new FilteredResponse(parent, context, handler), MediaType.APPLICATION_JSON, output);
+
+        // 响应仍是过滤后的输出，不过滤的输出只用于统计
+        assertEquals("{\"child\":{\"id\":\"2\",\"value\":\"123****8901\"}}", output.getBodyAsString());
+        String handlerTag = JsonViewExtTests.class.getName() + "#maskedView";
+        assertEquals(output.getBodyAsBytes().length, registry.get("jsonviewext.shadow.size")
+                .tag("handler", handlerTag).tag("output", "filtered").summary().totalAmount());
+        assertEquals(defaultMapper.writeValueAsBytes(parent).length, registry.get("jsonviewext.shadow.size")
+                .tag("handler", handlerTag).tag("output", "unfiltered").summary().totalAmount());
+        assertEquals(1, registry.get("jsonviewext.shadow.serialization")
+                .tag("handler", handlerTag).tag("output", "unfiltered").timer().count());
+        assertEquals(2, registry.get("jsonviewext.serialization").tag("handler", handlerTag).timer().count());
+    }
+
+    @Test
+    public void testFlightRecorderEvents() throws Exception {
+        TestEntity child = new TestEntity();
+        child.setId("2");
+        child.setName("Child");
+        child.setValue("12345678901");
+        TestParent parent = new TestParent();
+        parent.setChild(child);
+        parent.setChildren(Arrays.asList(child));
+        Method handler = JsonViewExtTests.class.getDeclaredMethod("recordedView");
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                new JsonViewExtMappingJackson2HttpMessageConverter(new ObjectMapper(), objectMapper);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        Path file = Files.createTempFile("jsonviewext", ".jfr");
+        List<RecordedEvent> events;
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(JsonViewExtEvents.PREFIX + "ViewCompilation");
+                recording.enable(JsonViewExtEvents.PREFIX + "FilteredWrite").withThreshold(Duration.ZERO);
+                recording.enable(JsonViewExtEvents.PREFIX + "Masking").withThreshold(Duration.ZERO);
+                recording.start();
+                FilterContext context = new FilterRuleRegistry().getOrCreateContext(handler);
+                converter.write(new FilteredResponse(parent, context, handler), MediaType.APPLICATION_JSON, output);
+                recording.stop();
+                recording.dump(file);
+            }
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+
+        RecordedEvent compilation = singleEvent(events, "ViewCompilation");
+        assertEquals("recordedView", compilation.getString("handlerMethod"));
+        assertEquals(1, compilation.getInt("rules"));
+
+        RecordedEvent write = singleEvent(events, "FilteredWrite");
+        assertEquals("recordedView", write.getString("handlerMethod"));
+        assertEquals(TestParent.class.getName(), write.getClass("rootType").getName());
+        assertEquals(output.getBodyAsBytes().length, write.getLong("bytes"));
+        assertEquals(2, write.getLong("beansFiltered"));
+        assertEquals(2, write.getLong("fieldsMasked"));
+
+        // 每个响应一个脱敏汇总事件，而不是每个对象一个
+        RecordedEvent masking = singleEvent(events, "Masking");
+        assertEquals("recordedView", masking.getString("handlerMethod"));
+        assertEquals(2, masking.getLong("beansMasked"));
+        assertEquals(2, masking.getLong("fieldsMasked"));
+    }
+
+    private static RecordedEvent singleEvent(List<RecordedEvent> events, String name) {
+        RecordedEvent found = null;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(JsonViewExtEvents.PREFIX + name)) {
+                assertNull(found, "Duplicate " + name + " event");
+                found = event;
+            }
+        }
+        assertNotNull(found, "Missing " + name + " event");
+        return found;
+    }
+
+    @Test
+    public void testPropertyCostProfiler() throws Exception {
+        TestEntity child = new TestEntity();
+        child.setId("2");
+        child.setName("Child");
+        child.setValue("12345678901");
+        TestParent parent = new TestParent();
+        parent.setChild(child);
+
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("id", "value"), true, ImmutableMap.of("value", PhoneType.class)));
+        Method handler = JsonViewExtTests.class.getDeclaredMethod("maskedView");
+
+        PropertyCostProfiler profiler = new PropertyCostProfiler(1, 10, 0, TimeUnit.MILLISECONDS);
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                new JsonViewExtMappingJackson2HttpMessageConverter(new ObjectMapper(), objectMapper);
+        converter.setPropertyCostProfiler(profiler);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(new FilteredResponse(parent, context, handler), MediaType.APPLICATION_JSON, output);
+        converter.write(new FilteredResponse(parent, context, handler), MediaType.APPLICATION_JSON,
+                new MockHttpOutputMessage());
+
+        // 采样不影响输出
+        assertEquals("{\"child\":{\"id\":\"2\",\"value\":\"123****8901\"}}", output.getBodyAsString());
+        assertEquals(2, profiler.getSampledRequests(handler));
+        Map<String, PropertyCost> costs = new HashMap<>();
+        for (PropertyCost cost : profiler.getTopProperties(handler, 10)) {
+            assertEquals(TestEntity.class, cost.getBeanClass());
+            costs.put(cost.getProperty(), cost);
+        }
+        assertEquals(new HashSet<>(Arrays.asList("id", "value")), costs.keySet());
+        assertEquals(2, costs.get("value").getCount());
+        assertTrue(costs.get("value").getTotalNanos() > 0);
+        assertTrue(costs.get("value").getMaxNanos() <= costs.get("value").getP99Nanos());
+        // "id":"2" 和 ,"value":"123****8901"
+        assertEquals(8, costs.get("id").getMeanBytes());
+        assertEquals(22, costs.get("value").getMeanBytes());
+        assertEquals(1, profiler.getTopProperties(handler, 1).size());
+        assertTrue(profiler.report().contains("TestEntity.value"));
+
+        profiler.reset();
+        assertTrue(profiler.getTopProperties(handler, 10).isEmpty());
+    }
+
+    @Test
+    public void testInspector() throws Exception {
+        Method handler = JsonViewExtTests.class.getDeclaredMethod("maskedView");
+        FilterRuleRegistry registry = new FilterRuleRegistry();
+        FilterContext context = registry.getOrCreateContext(handler);
+        registry.getOrCreateContext(handler);
+
+        MaskedValueCache maskedValueCache = new MaskedValueCache(10, 0, TimeUnit.SECONDS,
+                MaskedValueCache.Scope.GLOBAL);
+        PhoneType phoneType = new PhoneType();
+        maskedValueCache.desensitize(phoneType, "12345678901");
+        maskedValueCache.desensitize(phoneType, "12345678901");
+        ViewWriterCache viewWriterCache = new ViewWriterCache(new ObjectMapper(), JsonViewExtModule::new);
+        viewWriterCache.getWriter(context, TestEntity.class);
+        JsonViewExtInspector inspector = new JsonViewExtInspector(maskedValueCache);
+        inspector.addViewWriterCache(viewWriterCache);
+
+        Map<String, Object> view = null;
+        for (Map<String, Object> item : inspector.getViews()) {
+            if (item.get("handler").equals(JsonViewExtTests.class.getName() + "#maskedView")) {
+                view = item;
+            }
+        }
+        assertNotNull(view);
+        assertEquals(1, ((List<?>) view.get("rules")).size());
+        assertTrue((Long) view.get("uses") >= 2);
+        assertTrue((Long) view.get("estimatedSize") > 0);
+
+        Map<String, CacheStats> caches = new HashMap<>();
+        for (CacheStats stats : inspector.getCacheStats()) {
+            caches.put(stats.getName(), stats);
+        }
+        assertEquals(new HashSet<>(Arrays.asList("views", "annotated-methods", "annotations", "filter-plans",
+                "sensitive-handlers", "mask-types", "masked-values", "view-writers")), caches.keySet());
+        assertTrue(caches.get("views").getHits() >= 1);
+        assertEquals(1, caches.get("masked-values").getHits());
+        assertEquals(1, caches.get("masked-values").getMisses());
+        assertEquals(1, caches.get("view-writers").getSize());
+
+        // 通过 JMX 读取状态并清空缓存
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        AnnotationMBeanExporter exporter = new AnnotationMBeanExporter();
+        exporter.setServer(server);
+        exporter.setAutodetect(false);
+        exporter.setBeans(ImmutableMap.of("jsonViewExtInspector", inspector));
+        exporter.afterPropertiesSet();
+        exporter.afterSingletonsInstantiated();
+        ObjectName name = new ObjectName(JsonViewExtInspector.OBJECT_NAME);
+        assertFalse(((List<?>) server.getAttribute(name, "Caches")).isEmpty());
+        assertEquals(1, server.invoke(name, "purge", new Object[]{"masked-values"},
+                new String[]{String.class.getName()}));
+        assertEquals(0, maskedValueCache.size());
+        assertEquals(1, maskedValueCache.getEvictionCount());
+        exporter.destroy();
+
+        MaskType.of(5, 5, '#', "");
+        assertTrue(inspector.purge("mask-types") >= 1);
+        assertEquals(0, MaskType.getCacheStats().getSize());
+
+        assertTrue(inspector.purge("views") >= 2);
+        assertEquals(0, viewWriterCache.size());
+        assertNotSame(context, registry.getOrCreateContext(handler));
+        assertThrows(IllegalArgumentException.class, () -> inspector.purge("sensitive-handlers"));
+
+        // 过滤计划随视图一起清空，反复清空后重新解析不会累积旧规则的计划
+        TestEntity entity = new TestEntity();
+        entity.setId("1");
+        entity.setValue("12345678901");
+        JsonViewExtMappingJackson2HttpMessageConverter converter = new JsonViewExtMappingJackson2HttpMessageConverter(
+                new ObjectMapper(), new ObjectMapper().registerModule(new JsonViewExtModule()));
+        inspector.purge("filter-plans");
+        for (int i = 0; i < 3; i++) {
+            converter.write(new FilteredResponse(entity, registry.getOrCreateContext(handler), handler),
+                    MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+            assertEquals(1, FilterPlanCache.getStats().getSize());
+            assertTrue(inspector.purge("views") >= 2);
+            assertEquals(0, FilterPlanCache.getStats().getSize());
+        }
+        assertTrue(FilterPlanCache.getStats().getEvictions() >= 3);
+
+        // 命中在单次序列化中累计，序列化结束后汇总；两种上下文传递方式都计入
+        FilterContext planContext = registry.getOrCreateContext(handler);
+        for (boolean attributeContext : new boolean[]{false, true}) {
+            converter.setAttributeContext(attributeContext);
+            CacheStats before = FilterPlanCache.getStats();
+            for (int i = 0; i < 3; i++) {
+                converter.write(new FilteredResponse(entity, planContext, handler),
+                        MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+            }
+            CacheStats after = FilterPlanCache.getStats();
+            assertEquals(attributeContext ? 0 : 1, after.getMisses() - before.getMisses());
+            assertEquals(attributeContext ? 3 : 2, after.getHits() - before.getHits());
+        }
+    }
+
+    @Test
+    public void testInspectorEndpoint() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+                        JsonViewExtAutoConfiguration.class))
+                .run(context -> assertFalse(context.containsBean("jsonViewExtInspectorEndpoint")));
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+                        JsonViewExtAutoConfiguration.class))
+                .withPropertyValues("json-view-ext.inspector.enabled=true")
+                .run(context -> {
+                    JsonViewExtInspectorEndpoint endpoint = context.getBean(JsonViewExtInspectorEndpoint.class);
+                    Map<String, Object> result = endpoint.inspect();
+                    assertEquals(new HashSet<>(Arrays.asList("views", "caches", "expensiveProperties")),
+                            result.keySet());
+                    assertFalse(((List<?>) result.get("caches")).isEmpty());
+
+                    Map<String, Object> purged = endpoint.purge("annotations");
+                    assertEquals("annotations", purged.get("cache"));
+                    assertTrue((Integer) purged.get("removed") >= 0);
+                    assertThrows(InvalidEndpointRequestException.class, () -> endpoint.purge("sensitive-handlers"));
+                });
+    }
+
+    @Test
+    public void testWarmUpWritesSyntheticSamples() throws Exception {
+        WarmUpController controller = new WarmUpController();
+        List<HandlerMethod> handlerMethods = new ArrayList<>();
+        for (String name : Arrays.asList("node", "entities", "task")) {
+            handlerMethods.add(new HandlerMethod(controller, WarmUpController.class.getMethod(name)));
+        }
+        RecordingConverter converter = new RecordingConverter(objectMapper);
+
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        Logger logger = (Logger) LoggerFactory.getLogger(JsonViewExtWarmUp.class);
+        logger.addAppender(appender);
+        int writes;
+        try {
+            writes = new JsonViewExtWarmUp(new FilterRuleRegistry(), 3, Duration.ofMinutes(1))
+                    .warmUp(converter, handlerMethods);
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        // 无法构造样例的接口（返回接口类型）跳过并输出警告，其余两个接口各写入 iterations 次
+        assertEquals(6, writes);
+        assertEquals(6, converter.samples.size());
+        assertTrue(appender.list.stream().anyMatch(event -> event.getLevel() == Level.WARN
+                && event.getFormattedMessage().contains("#task")));
+
+        // 写入共享的丢弃输出，不调用接口方法和 setter
+        for (OutputStream body : converter.bodies) {
+            assertSame(converter.bodies.get(0), body);
+            assertTrue(body.getClass().getName().startsWith(JsonViewExtWarmUp.class.getName()));
+        }
+        assertEquals(0, WarmUpController.invocations);
+        assertFalse(WarmUpNode.setterCalled);
+
+        WarmUpNode node = (WarmUpNode) converter.samples.get(0);
+        assertNotNull(node.getName());
+        // 循环引用处留空，元素类型形成循环的集合为空
+        assertNotNull(node.getPeer());
+        assertNull(node.getPeer().getNode());
+        assertNotNull(node.getPeer().getLabel());
+        assertTrue(node.getChildren().isEmpty());
+        // 不支持的 JDK 类型留空
+        assertNull(node.getOwner());
+        // 超过最大深度的位置留空
+        assertTrue(node.getNested().get(0).get(0).get(0).isEmpty());
+        assertEquals(2, ((List<?>) converter.samples.get(1)).size());
+    }
+
+    @Test
+    public void testWarmUpStopsAtTimeBudget() throws Exception {
+        HandlerMethod handlerMethod = new HandlerMethod(new WarmUpController(),
+                WarmUpController.class.getMethod("entities"));
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                new JsonViewExtMappingJackson2HttpMessageConverter(new ObjectMapper(), objectMapper);
+
+        long start = System.nanoTime();
+        int writes = new JsonViewExtWarmUp(new FilterRuleRegistry(), Integer.MAX_VALUE, Duration.ofMillis(50))
+                .warmUp(converter, Collections.singletonList(handlerMethod));
+
+        assertTrue(writes < Integer.MAX_VALUE);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    public void testPrewarmResolvesSerializers() throws Exception {
+        FilterContext context = new FilterContext();
+        context.addIncludeRule(new FilterRule(
+                TestEntity.class, "",
+                ImmutableSet.of("id"), true, ImmutableMap.of()));
+        context.freeze();
+
+        ObjectMapper filterMapper = new ObjectMapper().registerModule(new JsonViewExtModule());
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                new JsonViewExtMappingJackson2HttpMessageConverter(new ObjectMapper(), filterMapper);
+        JavaType type = filterMapper.getTypeFactory().constructCollectionType(List.class, TestParent.class);
+
+        // List<TestParent> 与元素类型 TestParent
+        assertEquals(2, converter.prewarm(context, type));
+        assertTrue(((DefaultSerializerProvider) filterMapper.getSerializerProvider()).cachedSerializersCount() >= 2);
+    }
+
+    @Test
+    public void testCompiledRulesMatchAnnotations() throws Exception {
+        // 测试编译时通过 json-view-ext-processor 生成规则表，解析结果与反射解析一致
+        Method method = JsonViewExtTests.class.getDeclaredMethod("maskedView");
+        CompiledRules compiledRules = FilterRuleRegistry.getCompiledRules();
+        assertTrue(compiledRules.contains(method));
+
+        FilterContext context = compiledRules.createContext(method);
+        assertNotNull(context);
+        FilterRule rule = context.getApplicableRule(TestEntity.class, "");
+        JsonFilterExt filter = FilterRuleRegistry.findJsonViewExtAnnotation(method).include()[0];
+        assertTrue(rule.isInclude());
+        assertEquals(new HashSet<>(Arrays.asList(filter.props())), rule.getProps());
+        assertEquals(MaskType.class, rule.getSensitiveProps().get("value"));
+        assertSame(SensitiveHandler.getHandler(filter.sensitives()[0]), rule.getSensitiveHandler("value"));
+
+        assertFalse(compiledRules.contains(JsonViewExtTests.class.getDeclaredMethod("setUp")));
+    }
+
+    @JsonViewExt(include = @JsonFilterExt(clazz = TestEntity.class, props = {"id", "value"},
+            sensitives = @Sensitive(props = "value", keepPrefix = 2, keepSuffix = 1, maskChar = '#')))
+    private void maskedView() {
+    }
+
+    @JsonViewExt(include = @JsonFilterExt(clazz = TestEntity.class, props = {"id", "value"},
+            sensitives = @Sensitive(props = "value", type = PhoneType.class)))
+    private void recordedView() {
+    }
+
     // 测试实体类
     public static class TestEntity {
         private String id;
@@ -188,4 +1206,248 @@ public class JsonViewExtTests {
         public String getValue() { return value; }
         public void setValue(String value) { this.value = value; }
     }
+
+    public static class TestParent {
+        private TestEntity child;
+        private List<TestEntity> children;
+
+        public TestEntity getChild() { return child; }
+        public void setChild(TestEntity child) { this.child = child; }
+
+        public List<TestEntity> getChildren() { return children; }
+        public void setChildren(List<TestEntity> children) { this.children = children; }
+    }
+
+    public static class CountingEntity {
+        private int nameCalls;
+        private int childCalls;
+
+        public String getName() {
+            nameCalls++;
+            return "Counting";
+        }
+
+        public TestEntity getChild() {
+            childCalls++;
+            TestEntity child = new TestEntity();
+            child.setId("1");
+            child.setName("Child");
+            child.setValue("Value");
+            return child;
+        }
+    }
+
+    @JsonPropertyOrder({"ints", "longs", "doubles", "bytes", "names"})
+    public static class ArrayEntity {
+        public int[] getInts() { return new int[]{1, 2}; }
+
+        public long[] getLongs() { return new long[]{3L}; }
+
+        public double[] getDoubles() { return new double[]{1.5, 2.25}; }
+
+        public byte[] getBytes() { return new byte[]{1, 2, 3}; }
+
+        public String[] getNames() { return new String[]{"a"}; }
+    }
+
+    public static class WarmUpController {
+        private static int invocations;
+
+        @JsonViewExt(include = @JsonFilterExt(clazz = WarmUpNode.class, props = {"name", "peer", "children"}))
+        public WarmUpNode node() {
+            invocations++;
+            return new WarmUpNode();
+        }
+
+        @JsonViewExt(include = @JsonFilterExt(clazz = TestEntity.class, props = {"id"}))
+        public List<TestEntity> entities() {
+            invocations++;
+            return new ArrayList<>();
+        }
+
+        @JsonViewExt(include = @JsonFilterExt(clazz = TestEntity.class, props = {"id"}))
+        public Runnable task() {
+            invocations++;
+            return null;
+        }
+    }
+
+    public static class WarmUpNode {
+        private static boolean setterCalled;
+
+        private String name;
+        private WarmUpPeer peer;
+        private List<WarmUpNode> children;
+        private Thread owner;
+        private List<List<List<List<String>>>> nested;
+
+        public String getName() { return name; }
+        public void setName(String name) { setterCalled = true; this.name = name; }
+
+        public WarmUpPeer getPeer() { return peer; }
+        public void setPeer(WarmUpPeer peer) { setterCalled = true; this.peer = peer; }
+
+        public List<WarmUpNode> getChildren() { return children; }
+        public void setChildren(List<WarmUpNode> children) { setterCalled = true; this.children = children; }
+
+        public Thread getOwner() { return owner; }
+        public void setOwner(Thread owner) { setterCalled = true; this.owner = owner; }
+
+        public List<List<List<List<String>>>> getNested() { return nested; }
+        public void setNested(List<List<List<List<String>>>> nested) { setterCalled = true; this.nested = nested; }
+    }
+
+    public static class WarmUpPeer {
+        private WarmUpNode node;
+        private String label;
+
+        public WarmUpNode getNode() { return node; }
+
+        public String getLabel() { return label; }
+    }
+
+    /**
+     * 记录每次写入的数据和输出流
+     */
+    private static class RecordingConverter extends JsonViewExtMappingJackson2HttpMessageConverter {
+        private final List<Object> samples = new ArrayList<>();
+        private final List<OutputStream> bodies = new ArrayList<>();
+
+        RecordingConverter(ObjectMapper filterObjectMapper) {
+            super(new ObjectMapper(), filterObjectMapper);
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            samples.add(((FilteredResponse) object).getData());
+            bodies.add(outputMessage.getBody());
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+
+    public static class GraphRoot {
+        private String name;
+        private String secret;
+        private GraphMiddle middle;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getSecret() { return secret; }
+        public void setSecret(String secret) { this.secret = secret; }
+
+        public GraphMiddle getMiddle() { return middle; }
+        public void setMiddle(GraphMiddle middle) { this.middle = middle; }
+    }
+
+    public static class GraphMiddle {
+        private String label;
+        private GraphLeaf leaf;
+
+        public String getLabel() { return label; }
+        public void setLabel(String label) { this.label = label; }
+
+        public GraphLeaf getLeaf() { return leaf; }
+        public void setLeaf(GraphLeaf leaf) { this.leaf = leaf; }
+    }
+
+    public static class GraphLeaf {
+        private String id;
+        private String value;
+        private String hidden;
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+
+        public String getValue() { return value; }
+        public void setValue(String value) { this.value = value; }
+
+        public String getHidden() { return hidden; }
+        public void setHidden(String hidden) { this.hidden = hidden; }
+    }
+
+    public static class MixedBag {
+        private List<Object> items;
+        private Object[] array;
+
+        public List<Object> getItems() { return items; }
+        public void setItems(List<Object> items) { this.items = items; }
+
+        public Object[] getArray() { return array; }
+        public void setArray(Object[] array) { this.array = array; }
+    }
+
+    public static class MixedA {
+        private final String id;
+        private final String name;
+
+        public MixedA(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public String getId() { return id; }
+        public String getName() { return name; }
+        public String getSecret() { return "Secret"; }
+    }
+
+    public static class MixedB {
+        private final String id;
+        private final String name;
+
+        public MixedB(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public String getId() { return id; }
+        public String getName() { return name; }
+        public String getSecret() { return "Secret"; }
+    }
+
+    public static class FailingEntity {
+        private String id = "1";
+        private String phone = "13812345678";
+        private List<FailingItem> items = Collections.singletonList(new FailingItem());
+        private FailingItem child = new FailingItem();
+        private String name = "Failing";
+
+        public String getId() { return id; }
+        public String getPhone() { return phone; }
+        public List<FailingItem> getItems() { return items; }
+        public FailingItem getChild() { return child; }
+        public String getName() { return name; }
+    }
+
+    public static class FailingItem {
+        private String name = "Item";
+
+        public String getName() { return name; }
+
+        public String getBroken() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    public static class ThrowingType implements SensitiveType {
+        @Override
+        public String desensitize(String value) {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    /**
+     * 记录规则查找的类型和路径
+     */
+    private static class RecordingFilterContext extends FilterContext {
+        private final List<Class<?>> lookups = new ArrayList<>();
+        private final List<String> paths = new ArrayList<>();
+
+        @Override
+        public FilterRule getApplicableRule(Class<?> clazz, PathNode node) {
+            lookups.add(clazz);
+            paths.add(node.getPath());
+            return super.getApplicableRule(clazz, node);
+        }
+    }
 }
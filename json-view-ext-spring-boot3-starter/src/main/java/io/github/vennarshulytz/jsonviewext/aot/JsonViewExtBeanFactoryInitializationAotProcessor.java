@@ -0,0 +1,146 @@
+package io.github.vennarshulytz.jsonviewext.aot;
+
+import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;
+import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;
+import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;
+import io.github.vennarshulytz.jsonviewext.core.CompiledRules;
+import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import javax.lang.model.element.Modifier;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Spring AOT 处理：在构建期查找所有 Bean 上的 @JsonViewExt 方法
+ * <ul>
+ *     <li>为规则引用的 DTO、接口返回类型注册 Jackson 绑定所需的反射提示，为脱敏处理器注册构造器提示</li>
+ *     <li>预先解析规则，生成启动时注册到 {@link FilterRuleRegistry} 编译期规则表的代码，运行时不再反射读取注解</li>
+ * </ul>
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class JsonViewExtBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Map<Method, JsonViewExt> views = new LinkedHashMap<>();
+        FilterRuleRegistry ruleRegistry = new FilterRuleRegistry();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            ReflectionUtils.doWithMethods(ClassUtils.getUserClass(beanType), method -> {
+                JsonViewExt annotation = FilterRuleRegistry.findJsonViewExtAnnotation(method);
+                if (annotation != null && !views.containsKey(method)) {
+                    // 构建期解析一次，脱敏处理器无法实例化等问题在构建时即可暴露
+                    ruleRegistry.getOrCreateContext(method);
+                    views.put(method, annotation);
+                }
+            }, ReflectionUtils.USER_DECLARED_METHODS);
+        }
+        return views.isEmpty() ? null : new JsonViewExtContribution(views);
+    }
+
+    private static final class JsonViewExtContribution implements BeanFactoryInitializationAotContribution {
+
+        private final Map<Method, JsonViewExt> views;
+
+        JsonViewExtContribution(Map<Method, JsonViewExt> views) {
+            this.views = views;
+        }
+
+        @Override
+        public void applyTo(GenerationContext generationContext,
+                            BeanFactoryInitializationCode beanFactoryInitializationCode) {
+            ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+            BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+            CodeBlock.Builder code = CodeBlock.builder();
+            code.add("$T.registerCompiledRules(rules -> {\n", FilterRuleRegistry.class).indent();
+            for (Map.Entry<Method, JsonViewExt> entry : views.entrySet()) {
+                Method method = entry.getKey();
+                JsonViewExt annotation = entry.getValue();
+                reflection.registerMethod(method, ExecutableMode.INTROSPECT);
+                bindingRegistrar.registerReflectionHints(reflection, bodyType(method));
+
+                code.add("rules.method($S)", CompiledRules.methodKey(method)).indent().indent();
+                addRules(code, "include", annotation.include(), reflection, bindingRegistrar);
+                addRules(code, "exclude", annotation.exclude(), reflection, bindingRegistrar);
+                code.add(";\n").unindent().unindent();
+            }
+            code.unindent().add("});\n");
+
+            GeneratedMethod generatedMethod = beanFactoryInitializationCode.getMethods()
+                    .add("registerJsonViewExtRules", method -> {
+                        method.addJavadoc("Register the pre-built {@code @JsonViewExt} filter rules.");
+                        method.addModifiers(Modifier.PUBLIC);
+                        method.addCode(code.build());
+                    });
+            beanFactoryInitializationCode.addInitializer(generatedMethod.toMethodReference());
+        }
+
+        private void addRules(CodeBlock.Builder code, String kind, JsonFilterExt[] filters,
+                              ReflectionHints reflection, BindingReflectionHintsRegistrar bindingRegistrar) {
+            for (JsonFilterExt filter : filters) {
+                bindingRegistrar.registerReflectionHints(reflection, filter.clazz());
+                code.add("\n.$L($S, $S", kind, filter.clazz().getName(), filter.field());
+                for (String prop : filter.props()) {
+                    code.add(", $S", prop);
+                }
+                code.add(")");
+
+                for (Sensitive sensitive : filter.sensitives()) {
+                    reflection.registerType(sensitive.type(), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+                    code.add("\n.sensitive($S, $L, $L, $L, $S", sensitive.type().getName(), sensitive.keepPrefix(),
+                            sensitive.keepSuffix(), charLiteral(sensitive.maskChar()), sensitive.regex());
+                    for (String prop : sensitive.props()) {
+                        code.add(", $S", prop);
+                    }
+                    code.add(")");
+                }
+            }
+        }
+
+        /**
+         * 接口输出的数据类型，ResponseEntity 等 HttpEntity 取其响应体类型
+         */
+        private static Type bodyType(Method method) {
+            Type returnType = method.getGenericReturnType();
+            if (returnType instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) returnType;
+                if (parameterizedType.getRawType() instanceof Class
+                        && HttpEntity.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())
+                        && parameterizedType.getActualTypeArguments().length == 1) {
+                    return parameterizedType.getActualTypeArguments()[0];
+                }
+            }
+            return returnType;
+        }
+
+        private static String charLiteral(char value) {
+            if (value >= 0x20 && value < 0x7f && value != '\'' && value != '\\') {
+                return "'" + value + "'";
+            }
+            return "(char) " + (int) value;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.vennarshulytz.jsonviewext.aot;
+
+import io.github.vennarshulytz.jsonviewext.annotation.JsonFilterExt;
+import io.github.vennarshulytz.jsonviewext.annotation.JsonViewExt;
+import io.github.vennarshulytz.jsonviewext.annotation.Sensitive;
+import io.github.vennarshulytz.jsonviewext.core.CompiledRuleProvider;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.EmailType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.IdCardType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.MaskType;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.PhoneType;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * JsonViewExt 固定需要的 native-image 运行时提示：内置脱敏处理器的构造器、规则注解以及编译期规则表的 ServiceLoader 配置
+ * <p>
+ * 接口上使用的自定义脱敏处理器和 DTO 由 {@link JsonViewExtBeanFactoryInitializationAotProcessor} 按需注册
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class JsonViewExtRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> sensitiveType : new Class<?>[]{PhoneType.class, EmailType.class, IdCardType.class,
+                MaskType.class}) {
+            hints.reflection().registerType(sensitiveType, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        for (Class<?> annotation : new Class<?>[]{JsonViewExt.class, JsonFilterExt.class, Sensitive.class}) {
+            hints.reflection().registerType(annotation, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/" + CompiledRuleProvider.class.getName());
+    }
+}
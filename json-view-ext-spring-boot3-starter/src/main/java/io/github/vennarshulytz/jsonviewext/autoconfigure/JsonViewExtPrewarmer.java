@@ -0,0 +1,95 @@
+package io.github.vennarshulytz.jsonviewext.autoconfigure;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.github.vennarshulytz.jsonviewext.converter.JsonViewExtMappingJackson2HttpMessageConverter;
+import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
+import io.github.vennarshulytz.jsonviewext.model.FilterContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 启动预热：扫描所有 @JsonViewExt 接口，预先解析过滤规则并解析返回类型的序列化器，避免首次请求变慢
+ * <p>
+ * 预热过程通过 {@link ApplicationStartup} 记录为 {@code json-view-ext.prewarm} 步骤，每个接口对应一个
+ * {@code json-view-ext.prewarm.endpoint} 子步骤
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class JsonViewExtPrewarmer implements SmartInitializingSingleton, ApplicationContextAware {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonViewExtPrewarmer.class);
+
+    private final FilterRuleRegistry ruleRegistry;
+
+    private ApplicationContext applicationContext;
+
+    public JsonViewExtPrewarmer(FilterRuleRegistry ruleRegistry) {
+        this.ruleRegistry = ruleRegistry;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                JsonViewExtEndpoints.findConverter(applicationContext);
+        if (converter == null) {
+            log.warn("JsonViewExt converter not found, skipping prewarm");
+            return;
+        }
+
+        ApplicationStartup startup = applicationContext instanceof ConfigurableApplicationContext
+                ? ((ConfigurableApplicationContext) applicationContext).getApplicationStartup()
+                : ApplicationStartup.DEFAULT;
+        StartupStep step = startup.start("json-view-ext.prewarm");
+        List<HandlerMethod> handlerMethods = Collections.emptyList();
+        int types = 0;
+        try {
+            handlerMethods = JsonViewExtEndpoints.findHandlerMethods(applicationContext, ruleRegistry);
+            for (HandlerMethod handlerMethod : handlerMethods) {
+                types += prewarm(startup, converter, handlerMethod);
+            }
+        } finally {
+            step.tag("endpoints", String.valueOf(handlerMethods.size()));
+            step.tag("types", String.valueOf(types));
+            step.end();
+        }
+        log.info("JsonViewExt prewarmed {} endpoints, {} types", handlerMethods.size(), types);
+    }
+
+    private int prewarm(ApplicationStartup startup, JsonViewExtMappingJackson2HttpMessageConverter converter,
+                        HandlerMethod handlerMethod) {
+        Method method = handlerMethod.getMethod();
+        StartupStep step = startup.start("json-view-ext.prewarm.endpoint");
+        step.tag("method", method.toGenericString());
+        try {
+            FilterContext context = ruleRegistry.getOrCreateContext(method);
+            JavaType bodyType = JsonViewExtEndpoints.resolveBodyType(
+                    converter.getObjectMapper().getTypeFactory(), handlerMethod);
+            int types = converter.prewarm(context, bodyType);
+            step.tag("types", String.valueOf(types));
+            return types;
+        } catch (Exception e) {
+            step.tag("error", e.getClass().getName());
+            log.warn("Failed to prewarm JsonViewExt endpoint: {}", method, e);
+            return 0;
+        } finally {
+            step.end();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package io.github.vennarshulytz.jsonviewext.autoconfigure;
+
+import io.github.vennarshulytz.jsonviewext.core.ViewWriterCache;
+import io.github.vennarshulytz.jsonviewext.sensitive.MaskedValueCache;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * JsonViewExt 配置项
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@ConfigurationProperties(prefix = JsonViewExtProperties.PREFIX)
+public class JsonViewExtProperties {
+
+    public static final String PREFIX = "json-view-ext";
+
+    /**
+     * 是否通过 SerializerProvider 属性传递过滤上下文和路径状态，开启后序列化过程不再使用 ThreadLocal
+     */
+    private boolean attributeContext = false;
+
+    public boolean isAttributeContext() {
+        return attributeContext;
+    }
+
+    public void setAttributeContext(boolean attributeContext) {
+        this.attributeContext = attributeContext;
+    }
+
+    /**
+     * 是否为被过滤属性的 getter 生成直接调用的访问器（LambdaMetafactory），替代反射读取属性值
+     */
+    private boolean generatedAccessors = false;
+
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    public void setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+    }
+
+    /**
+     * 是否为每个过滤视图缓存绑定了过滤上下文的 ObjectWriter，不受规则影响的类型直接使用 Jackson 默认序列化器
+     * <p>
+     * 每个视图持有一个 ObjectMapper 副本及其序列化器缓存，内存占用与视图数和视图涉及的类型数成正比，
+     * 缓存的视图数由 {@link #viewSpecializedWritersMaxSize} 限制
+     */
+    private boolean viewSpecializedWriters = false;
+
+    public boolean isViewSpecializedWriters() {
+        return viewSpecializedWriters;
+    }
+
+    public void setViewSpecializedWriters(boolean viewSpecializedWriters) {
+        this.viewSpecializedWriters = viewSpecializedWriters;
+    }
+
+    /**
+     * 最多缓存的视图数，超出时淘汰最久未使用的视图
+     */
+    private int viewSpecializedWritersMaxSize = ViewWriterCache.DEFAULT_MAX_SIZE;
+
+    public int getViewSpecializedWritersMaxSize() {
+        return viewSpecializedWritersMaxSize;
+    }
+
+    public void setViewSpecializedWritersMaxSize(int viewSpecializedWritersMaxSize) {
+        this.viewSpecializedWritersMaxSize = viewSpecializedWritersMaxSize;
+    }
+
+    /**
+     * 是否在启动时预热所有 @JsonViewExt 接口：预先解析过滤规则并解析返回类型的序列化器
+     */
+    private boolean prewarm = false;
+
+    public boolean isPrewarm() {
+        return prewarm;
+    }
+
+    public void setPrewarm(boolean prewarm) {
+        this.prewarm = prewarm;
+    }
+
+    /**
+     * JIT 预热配置
+     */
+    private final WarmUpProperties warmUp = new WarmUpProperties();
+
+    public WarmUpProperties getWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * 脱敏结果缓存配置
+     */
+    private final MaskedValueCacheProperties maskedValueCache = new MaskedValueCacheProperties();
+
+    public MaskedValueCacheProperties getMaskedValueCache() {
+        return maskedValueCache;
+    }
+
+    /**
+     * 过滤序列化指标配置
+     */
+    private final MetricsProperties metrics = new MetricsProperties();
+
+    public MetricsProperties getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 运行时状态查看配置
+     */
+    private final InspectorProperties inspector = new InspectorProperties();
+
+    public InspectorProperties getInspector() {
+        return inspector;
+    }
+
+    /**
+     * 按属性统计开销的采样分析配置
+     */
+    private final ProfilerProperties profiler = new ProfilerProperties();
+
+    public ProfilerProperties getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * 脱敏结果缓存配置项
+     */
+    public static class MaskedValueCacheProperties {
+
+        /**
+         * 是否缓存脱敏结果
+         */
+        private boolean enabled = false;
+
+        /**
+         * 最大缓存条目数，超出时淘汰最近最少使用的条目
+         */
+        private int maxSize = 10000;
+
+        /**
+         * 缓存过期时间，0 表示不过期
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * 缓存作用域，默认每次序列化使用独立缓存；GLOBAL 跨请求共享缓存，命中率更高，
+         * 但未脱敏的原始值会作为缓存键在堆中保留到过期或被淘汰，堆转储中可见
+         */
+        private MaskedValueCache.Scope scope = MaskedValueCache.Scope.REQUEST;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public MaskedValueCache.Scope getScope() {
+            return scope;
+        }
+
+        public void setScope(MaskedValueCache.Scope scope) {
+            this.scope = scope;
+        }
+    }
+
+    /**
+     * JIT 预热配置项
+     */
+    public static class WarmUpProperties {
+
+        /**
+         * 是否在应用就绪前用样例对象反复执行过滤序列化
+         */
+        private boolean enabled = false;
+
+        /**
+         * 每个接口的最大序列化次数
+         */
+        private int iterations = 1000;
+
+        /**
+         * 预热总耗时上限
+         */
+        private Duration timeBudget = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+
+        public Duration getTimeBudget() {
+            return timeBudget;
+        }
+
+        public void setTimeBudget(Duration timeBudget) {
+            this.timeBudget = timeBudget;
+        }
+    }
+
+    /**
+     * 过滤序列化指标配置项
+     */
+    public static class MetricsProperties {
+
+        /**
+         * 是否通过 Micrometer 记录过滤序列化指标，关闭时不做任何统计
+         */
+        private boolean enabled = false;
+
+        /**
+         * 影子测量的采样比例（0 ~ 1）：被采样的响应额外进行一次不过滤的序列化并丢弃输出，记录过滤前后的大小和耗时
+         */
+        private double shadowSampleRate = 0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getShadowSampleRate() {
+            return shadowSampleRate;
+        }
+
+        public void setShadowSampleRate(double shadowSampleRate) {
+            this.shadowSampleRate = shadowSampleRate;
+        }
+    }
+
+    /**
+     * 运行时状态查看配置项
+     */
+    public static class InspectorProperties {
+
+        /**
+         * 是否注册 JsonViewExtInspector，开启 spring.jmx.enabled 时通过 JMX 导出
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * 按属性统计开销的采样分析配置项
+     */
+    public static class ProfilerProperties {
+
+        /**
+         * 是否采样记录过滤视图中每个属性的写出耗时和字节数
+         */
+        private boolean enabled = false;
+
+        /**
+         * 平均每多少次过滤序列化采样一次，1 表示全部采样
+         */
+        private int sampleInterval = 100;
+
+        /**
+         * 每个处理方法报告的开销最高的属性数
+         */
+        private int topK = 10;
+
+        /**
+         * 输出开销最高属性日志的间隔，0 表示不输出
+         */
+        private Duration logInterval = Duration.ZERO;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getSampleInterval() {
+            return sampleInterval;
+        }
+
+        public void setSampleInterval(int sampleInterval) {
+            this.sampleInterval = sampleInterval;
+        }
+
+        public int getTopK() {
+            return topK;
+        }
+
+        public void setTopK(int topK) {
+            this.topK = topK;
+        }
+
+        public Duration getLogInterval() {
+            return logInterval;
+        }
+
+        public void setLogInterval(Duration logInterval) {
+            this.logInterval = logInterval;
+        }
+    }
+}
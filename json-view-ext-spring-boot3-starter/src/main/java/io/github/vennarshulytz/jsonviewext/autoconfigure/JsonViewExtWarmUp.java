@@ -0,0 +1,161 @@
+package io.github.vennarshulytz.jsonviewext.autoconfigure;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.github.vennarshulytz.jsonviewext.converter.JsonViewExtMappingJackson2HttpMessageConverter;
+import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
+import io.github.vennarshulytz.jsonviewext.model.FilteredResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * JIT 预热：在应用就绪前，为每个 @JsonViewExt 接口的返回类型构造样例对象，经过滤转换器反复序列化到丢弃输出中，
+ * 让过滤序列化路径在接收流量前完成编译
+ * <p>
+ * 样例对象由无参构造器和字段赋值构造，不调用接口方法或任何业务 Bean；
+ * 每个接口最多写入 iterations 次，总耗时不超过 timeBudget
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class JsonViewExtWarmUp implements ApplicationRunner, ApplicationContextAware {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonViewExtWarmUp.class);
+
+    private final FilterRuleRegistry ruleRegistry;
+    private final int iterations;
+    private final Duration timeBudget;
+
+    private ApplicationContext applicationContext;
+
+    public JsonViewExtWarmUp(FilterRuleRegistry ruleRegistry, int iterations, Duration timeBudget) {
+        this.ruleRegistry = ruleRegistry;
+        this.iterations = iterations;
+        this.timeBudget = timeBudget;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        JsonViewExtMappingJackson2HttpMessageConverter converter =
+                JsonViewExtEndpoints.findConverter(applicationContext);
+        if (converter == null) {
+            log.warn("JsonViewExt converter not found, skipping warm-up");
+            return;
+        }
+        warmUp(converter, JsonViewExtEndpoints.findHandlerMethods(applicationContext, ruleRegistry));
+    }
+
+    /**
+     * 为给定接口构造样例对象并经过滤转换器反复序列化到丢弃输出中，无法构造样例的接口跳过
+     *
+     * @param converter      过滤转换器
+     * @param handlerMethods @JsonViewExt 接口方法，只读取其返回类型，不调用
+     * @return 实际写入次数
+     */
+    public int warmUp(JsonViewExtMappingJackson2HttpMessageConverter converter, List<HandlerMethod> handlerMethods) {
+        long start = System.nanoTime();
+        List<FilteredResponse> samples = createSamples(converter, handlerMethods);
+        int writes = writeSamples(converter, samples, start + timeBudget.toNanos());
+        log.info("JsonViewExt warm-up finished: {} endpoints, {} writes in {} ms",
+                samples.size(), writes, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return writes;
+    }
+
+    private List<FilteredResponse> createSamples(JsonViewExtMappingJackson2HttpMessageConverter converter,
+                                                 List<HandlerMethod> handlerMethods) {
+        SyntheticInstanceFactory factory = new SyntheticInstanceFactory(converter.getObjectMapper().getTypeFactory());
+        List<FilteredResponse> samples = new ArrayList<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            try {
+                JavaType bodyType = JsonViewExtEndpoints.resolveBodyType(
+                        converter.getObjectMapper().getTypeFactory(), handlerMethod);
+                Object data = factory.create(bodyType);
+                if (data != null) {
+                    samples.add(new FilteredResponse(data,
+                            ruleRegistry.getOrCreateContext(handlerMethod.getMethod())));
+                } else {
+                    log.warn("Cannot create warm-up sample of {} for JsonViewExt endpoint: {}, skipping it",
+                            bodyType, handlerMethod);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to create warm-up sample for JsonViewExt endpoint: {}", handlerMethod, e);
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * 轮流序列化各接口的样例对象，直到达到迭代次数或超出时间预算
+     *
+     * @return 实际写入次数
+     */
+    private int writeSamples(JsonViewExtMappingJackson2HttpMessageConverter converter,
+                             List<FilteredResponse> samples, long deadline) {
+        int writes = 0;
+        List<FilteredResponse> remaining = new ArrayList<>(samples);
+        for (int i = 0; i < iterations && !remaining.isEmpty(); i++) {
+            Iterator<FilteredResponse> iterator = remaining.iterator();
+            while (iterator.hasNext()) {
+                if (System.nanoTime() - deadline > 0) {
+                    return writes;
+                }
+                FilteredResponse sample = iterator.next();
+                try {
+                    converter.write(sample, MediaType.APPLICATION_JSON, new DiscardingOutputMessage());
+                    writes++;
+                } catch (Exception e) {
+                    log.warn("JsonViewExt warm-up failed for {}, skipping it",
+                            sample.getData().getClass().getName(), e);
+                    iterator.remove();
+                }
+            }
+        }
+        return writes;
+    }
+
+    /**
+     * 丢弃所有写入内容的输出消息
+     */
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+
+        private static final OutputStream DISCARD = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return DISCARD;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.vennarshulytz.jsonviewext.autoconfigure;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 按类型构造用于 JIT 预热的样例对象
+ * <p>
+ * 只调用无参构造器并直接写入字段，不调用 setter 或其他方法；JDK 内置类型只支持常见的值类型，
+ * 无法构造的类型及超过最大深度、循环引用的位置留空
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+final class SyntheticInstanceFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticInstanceFactory.class);
+
+    private static final int MAX_DEPTH = 4;
+    private static final int COLLECTION_SIZE = 2;
+    private static final String SAMPLE_STRING = "json-view-ext@warm.up";
+
+    private final TypeFactory typeFactory;
+    private final Set<Class<?>> creating = new HashSet<>();
+
+    SyntheticInstanceFactory(TypeFactory typeFactory) {
+        this.typeFactory = typeFactory;
+    }
+
+    /**
+     * 构造指定类型的样例对象，无法构造时返回 null
+     */
+    Object create(JavaType type) {
+        return create(type, 0);
+    }
+
+    private Object create(JavaType type, int depth) {
+        if (type == null || depth > MAX_DEPTH) {
+            return null;
+        }
+        Class<?> rawClass = type.getRawClass();
+        Object value = createValue(rawClass);
+        if (value != null) {
+            return value;
+        }
+        if (type.isArrayType()) {
+            return createArray(type, depth);
+        }
+        if (type.isCollectionLikeType()) {
+            return createCollection(type, depth);
+        }
+        if (type.isMapLikeType()) {
+            return createMap(type, depth);
+        }
+        if (rawClass == Optional.class) {
+            return Optional.ofNullable(create(type.getContentType(), depth + 1));
+        }
+        return createBean(type, depth);
+    }
+
+    private static Object createValue(Class<?> rawClass) {
+        if (rawClass == String.class || rawClass == CharSequence.class) {
+            return SAMPLE_STRING;
+        }
+        if (rawClass == boolean.class || rawClass == Boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (rawClass == char.class || rawClass == Character.class) {
+            return 'x';
+        }
+        if (rawClass == int.class || rawClass == Integer.class) {
+            return 1;
+        }
+        if (rawClass == long.class || rawClass == Long.class) {
+            return 1L;
+        }
+        if (rawClass == short.class || rawClass == Short.class) {
+            return (short) 1;
+        }
+        if (rawClass == byte.class || rawClass == Byte.class) {
+            return (byte) 1;
+        }
+        if (rawClass == double.class || rawClass == Double.class) {
+            return 1.5d;
+        }
+        if (rawClass == float.class || rawClass == Float.class) {
+            return 1.5f;
+        }
+        if (rawClass == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (rawClass == BigInteger.class) {
+            return BigInteger.ONE;
+        }
+        if (rawClass.isEnum()) {
+            Object[] constants = rawClass.getEnumConstants();
+            return constants.length > 0 ? constants[0] : null;
+        }
+        if (rawClass == Date.class) {
+            return new Date(0L);
+        }
+        if (rawClass == LocalDate.class) {
+            return LocalDate.of(2000, 1, 1);
+        }
+        if (rawClass == LocalDateTime.class) {
+            return LocalDateTime.of(2000, 1, 1, 0, 0);
+        }
+        if (rawClass == LocalTime.class) {
+            return LocalTime.MIDNIGHT;
+        }
+        if (rawClass == Instant.class) {
+            return Instant.EPOCH;
+        }
+        if (rawClass == UUID.class) {
+            return new UUID(0L, 1L);
+        }
+        return null;
+    }
+
+    private Object createArray(JavaType type, int depth) {
+        JavaType contentType = type.getContentType();
+        Object array = Array.newInstance(contentType.getRawClass(), COLLECTION_SIZE);
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            Object element = create(contentType, depth + 1);
+            if (element != null) {
+                Array.set(array, i, element);
+            }
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object createCollection(JavaType type, int depth) {
+        Class<?> rawClass = type.getRawClass();
+        Collection<Object> collection;
+        if (rawClass.isAssignableFrom(ArrayList.class)) {
+            collection = new ArrayList<>();
+        } else if (rawClass.isAssignableFrom(LinkedHashSet.class)) {
+            collection = new LinkedHashSet<>();
+        } else if (Collection.class.isAssignableFrom(rawClass)) {
+            collection = (Collection<Object>) instantiate(rawClass);
+            if (collection == null) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            Object element = create(type.getContentType(), depth + 1);
+            if (element != null) {
+                collection.add(element);
+            }
+        }
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object createMap(JavaType type, int depth) {
+        Class<?> rawClass = type.getRawClass();
+        Map<Object, Object> map;
+        if (rawClass.isAssignableFrom(LinkedHashMap.class)) {
+            map = new LinkedHashMap<>();
+        } else if (Map.class.isAssignableFrom(rawClass)) {
+            map = (Map<Object, Object>) instantiate(rawClass);
+            if (map == null) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        Object key = create(type.getKeyType(), depth + 1);
+        if (key != null) {
+            map.put(key, create(type.getContentType(), depth + 1));
+        }
+        return map;
+    }
+
+    private Object createBean(JavaType type, int depth) {
+        Class<?> rawClass = type.getRawClass();
+        if (rawClass.isPrimitive() || rawClass.getName().startsWith("java.") || !creating.add(rawClass)) {
+            return null;
+        }
+        try {
+            Object bean = instantiate(rawClass);
+            if (bean == null) {
+                return null;
+            }
+            for (Class<?> clazz = rawClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                JavaType declaringType = type.findSuperType(clazz);
+                for (Field field : clazz.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()) {
+                        continue;
+                    }
+                    JavaType fieldType = typeFactory.resolveMemberType(field.getGenericType(),
+                            declaringType != null ? declaringType.getBindings() : type.getBindings());
+                    Object value = create(fieldType, depth + 1);
+                    if (value != null) {
+                        field.setAccessible(true);
+                        field.set(bean, value);
+                    }
+                }
+            }
+            return bean;
+        } catch (Exception | LinkageError e) {
+            log.debug("Cannot create synthetic instance of {}", rawClass.getName(), e);
+            return null;
+        } finally {
+            creating.remove(rawClass);
+        }
+    }
+
+    private static Object instantiate(Class<?> rawClass) {
+        if (rawClass.isInterface() || Modifier.isAbstract(rawClass.getModifiers())
+                || (rawClass.isMemberClass() && !Modifier.isStatic(rawClass.getModifiers()))) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = rawClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (Exception | LinkageError e) {
+            log.debug("Cannot instantiate {}", rawClass.getName(), e);
+            return null;
+        }
+    }
+}
@@ -75,7 +75,7 @@ public class JsonViewExtResponseBodyAdvice implements ResponseBodyAdvice<Object>
            }
 
            log.debug("Wrapping response with FilteredResponse for method: {}", method.getName());
-           return new FilteredResponse(body, context);
+           return new FilteredResponse(body, context, method);
 
        } catch (Exception e) {
            log.error("Error creating FilteredResponse, returning original body", e);
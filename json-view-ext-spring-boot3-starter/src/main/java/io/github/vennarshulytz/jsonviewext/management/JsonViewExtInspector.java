@@ -0,0 +1,215 @@
+package io.github.vennarshulytz.jsonviewext.management;
+
+import io.github.vennarshulytz.jsonviewext.core.CacheStats;
+import io.github.vennarshulytz.jsonviewext.core.FilterPlanCache;
+import io.github.vennarshulytz.jsonviewext.core.FilterRuleRegistry;
+import io.github.vennarshulytz.jsonviewext.core.PropertyCost;
+import io.github.vennarshulytz.jsonviewext.core.PropertyCostProfiler;
+import io.github.vennarshulytz.jsonviewext.core.ViewStats;
+import io.github.vennarshulytz.jsonviewext.core.ViewWriterCache;
+import io.github.vennarshulytz.jsonviewext.model.FilterRule;
+import io.github.vennarshulytz.jsonviewext.sensitive.MaskedValueCache;
+import io.github.vennarshulytz.jsonviewext.sensitive.SensitiveHandler;
+import io.github.vennarshulytz.jsonviewext.sensitive.impl.MaskType;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedOperationParameter;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 运行时查看 JsonViewExt 的内部状态：已解析的视图（规则、估算内存、使用次数）和各内部缓存的条目数、命中/未命中/清除次数，
+ * 并可按名称清空缓存
+ * <p>
+ * 引入 spring-boot-actuator 时通过 {@link JsonViewExtInspectorEndpoint} 端点提供，否则通过 Spring JMX 导出
+ * （需开启 spring.jmx.enabled），也可注入后在自定义的管理接口中使用
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+@ManagedResource(objectName = JsonViewExtInspector.OBJECT_NAME,
+        description = "JsonViewExt parsed views and internal caches")
+public class JsonViewExtInspector {
+
+    public static final String OBJECT_NAME = "io.github.vennarshulytz.jsonviewext:type=Inspector";
+
+    /**
+     * 清空所有可清空的缓存
+     */
+    public static final String ALL_CACHES = "all";
+
+    private final MaskedValueCache maskedValueCache;
+
+    private final List<ViewWriterCache> viewWriterCaches = new CopyOnWriteArrayList<>();
+
+    private PropertyCostProfiler propertyCostProfiler;
+
+    /**
+     * @param maskedValueCache 脱敏结果缓存，未启用时为 null
+     */
+    public JsonViewExtInspector(MaskedValueCache maskedValueCache) {
+        this.maskedValueCache = maskedValueCache;
+    }
+
+    /**
+     * 登记过滤转换器使用的视图专用 ObjectWriter 缓存
+     */
+    public void addViewWriterCache(ViewWriterCache viewWriterCache) {
+        viewWriterCaches.add(viewWriterCache);
+    }
+
+    /**
+     * 设置按属性统计开销的采样分析器，未启用时为 null
+     */
+    public void setPropertyCostProfiler(PropertyCostProfiler propertyCostProfiler) {
+        this.propertyCostProfiler = propertyCostProfiler;
+    }
+
+    /**
+     * 各处理方法下采样得到的开销最高的属性，未启用采样分析时为空
+     */
+    @ManagedAttribute(description = "Most expensive properties per handler, sampled by the property cost profiler")
+    public Map<String, List<String>> getExpensiveProperties() {
+        Map<String, List<String>> handlers = new LinkedHashMap<>();
+        if (propertyCostProfiler == null) {
+            return handlers;
+        }
+        for (Map.Entry<Method, List<PropertyCost>> entry : propertyCostProfiler.getTopProperties().entrySet()) {
+            List<String> properties = new ArrayList<>();
+            for (PropertyCost cost : entry.getValue()) {
+                properties.add(cost.toString());
+            }
+            handlers.put(handlerName(entry.getKey()), properties);
+        }
+        return handlers;
+    }
+
+    /**
+     * 已解析的视图，每项包含处理方法、规则、估算占用的字节数和使用次数
+     */
+    @ManagedAttribute(description = "Parsed @JsonViewExt views with their rules, estimated size and usage count")
+    public List<Map<String, Object>> getViews() {
+        List<Map<String, Object>> views = new ArrayList<>();
+        for (ViewStats view : FilterRuleRegistry.getViewStats()) {
+            List<String> rules = new ArrayList<>();
+            for (FilterRule rule : view.getContext().getRules()) {
+                rules.add(rule.toString());
+            }
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("handler", handlerName(view.getMethod()));
+            item.put("rules", rules);
+            item.put("estimatedSize", view.getEstimatedSize());
+            item.put("uses", view.getUses());
+            views.add(item);
+        }
+        return views;
+    }
+
+    /**
+     * 各内部缓存的状态
+     */
+    @ManagedAttribute(description = "Size, hits, misses and evictions of the internal caches")
+    public List<Map<String, Object>> getCaches() {
+        List<Map<String, Object>> caches = new ArrayList<>();
+        for (CacheStats stats : getCacheStats()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", stats.getName());
+            item.put("size", stats.getSize());
+            item.put("hits", stats.getHits());
+            item.put("misses", stats.getMisses());
+            item.put("evictions", stats.getEvictions());
+            item.put("hitRate", stats.getHitRate());
+            caches.add(item);
+        }
+        return caches;
+    }
+
+    /**
+     * 各内部缓存状态的快照，视图专用 ObjectWriter 缓存有多个时合并统计
+     */
+    public List<CacheStats> getCacheStats() {
+        List<CacheStats> caches = new ArrayList<>(FilterRuleRegistry.getCacheStats());
+        caches.addAll(SensitiveHandler.getCacheStats());
+        if (maskedValueCache != null) {
+            caches.add(maskedValueCache.getStats());
+        }
+        if (!viewWriterCaches.isEmpty()) {
+            long size = 0, hits = 0, misses = 0, evictions = 0;
+            for (ViewWriterCache cache : viewWriterCaches) {
+                CacheStats stats = cache.getStats();
+                size += stats.getSize();
+                hits += stats.getHits();
+                misses += stats.getMisses();
+                evictions += stats.getEvictions();
+            }
+            caches.add(new CacheStats(ViewWriterCache.CACHE_NAME, size, hits, misses, evictions));
+        }
+        return caches;
+    }
+
+    /**
+     * 按名称清空缓存，之后按需重新解析；清空视图时一并清空以旧规则为键的过滤计划、MaskType 实例和以视图为键的
+     * ObjectWriter 缓存。脱敏处理器可能是手动注册的，不支持清空
+     *
+     * @param cache 缓存名称，或 {@link #ALL_CACHES}
+     * @return 移除的条目数
+     */
+    @ManagedOperation(description = "Clear an internal cache by name, or every clearable cache with \"all\"; "
+            + "returns the number of removed entries")
+    @ManagedOperationParameter(name = "cache", description = "views, annotated-methods, annotations, "
+            + "filter-plans, mask-types, masked-values, view-writers or all")
+    public int purge(String cache) {
+        switch (cache) {
+            case FilterRuleRegistry.VIEWS_CACHE:
+                return FilterRuleRegistry.purgeCache(FilterRuleRegistry.VIEWS_CACHE) + purgeViewWriters();
+            case FilterRuleRegistry.ANNOTATED_METHODS_CACHE:
+            case FilterRuleRegistry.ANNOTATIONS_CACHE:
+            case FilterPlanCache.CACHE_NAME:
+            case MaskType.INSTANCES_CACHE:
+                return FilterRuleRegistry.purgeCache(cache);
+            case MaskedValueCache.CACHE_NAME:
+                return purgeMaskedValues();
+            case ViewWriterCache.CACHE_NAME:
+                return purgeViewWriters();
+            case ALL_CACHES:
+                int removed = 0;
+                for (String name : Arrays.asList(FilterRuleRegistry.VIEWS_CACHE,
+                        FilterRuleRegistry.ANNOTATED_METHODS_CACHE, FilterRuleRegistry.ANNOTATIONS_CACHE,
+                        MaskedValueCache.CACHE_NAME)) {
+                    removed += purge(name);
+                }
+                return removed;
+            default:
+                throw new IllegalArgumentException("Unknown or non-clearable cache: " + cache);
+        }
+    }
+
+    private int purgeMaskedValues() {
+        if (maskedValueCache == null) {
+            return 0;
+        }
+        int removed = maskedValueCache.size();
+        maskedValueCache.clear();
+        return removed;
+    }
+
+    private int purgeViewWriters() {
+        int removed = 0;
+        for (ViewWriterCache cache : viewWriterCaches) {
+            removed += cache.size();
+            cache.clear();
+        }
+        return removed;
+    }
+
+    private static String handlerName(Method method) {
+        return method.getDeclaringClass().getName() + "#" + method.getName();
+    }
+}
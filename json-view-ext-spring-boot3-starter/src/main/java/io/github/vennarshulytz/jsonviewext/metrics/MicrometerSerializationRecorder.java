@@ -0,0 +1,183 @@
+package io.github.vennarshulytz.jsonviewext.metrics;
+
+import io.github.vennarshulytz.jsonviewext.core.SerializationRecorder;
+import io.github.vennarshulytz.jsonviewext.core.SerializationStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Micrometer 的过滤序列化指标，按处理方法（handler 标签，如 UserController#list）区分：
+ * <ul>
+ *     <li>{@code jsonviewext.serialization}：序列化耗时</li>
+ *     <li>{@code jsonviewext.serialization.size}：写出的字节数</li>
+ *     <li>{@code jsonviewext.beans.filtered}、{@code jsonviewext.fields.dropped}、{@code jsonviewext.fields.masked}、
+ *     {@code jsonviewext.errors}：过滤的 Bean 数、被过滤掉的属性数、脱敏的属性数、回退到默认写入的错误数</li>
+ *     <li>{@code jsonviewext.shadow.size}、{@code jsonviewext.shadow.serialization}：影子测量的输出大小和耗时，
+ *     output 标签区分 filtered 和 unfiltered，只在开启采样后注册</li>
+ * </ul>
+ * 序列化过程中只累加请求独占的 {@link SerializationStats}，结束后每个计数器最多更新一次，
+ * Micrometer 计数器内部使用分段累加器，高并发下不会在同一个变量上竞争
+ *
+ * @author vennarshulytz
+ * @since 1.2.0
+ */
+public class MicrometerSerializationRecorder implements SerializationRecorder {
+
+    public static final String METER_PREFIX = "jsonviewext";
+
+    private static final String UNKNOWN_HANDLER = "unknown";
+
+    private final MeterRegistry registry;
+    private final Map<Method, HandlerMeters> meters = new ConcurrentHashMap<>();
+    private volatile HandlerMeters unknownMeters;
+
+    public MicrometerSerializationRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void record(Method handlerMethod, long nanos, long bytes, SerializationStats stats) {
+        HandlerMeters handlerMeters = handlerMethod != null
+                ? meters.computeIfAbsent(handlerMethod, method -> new HandlerMeters(registry, handlerName(method)))
+                : getUnknownMeters();
+        handlerMeters.record(nanos, bytes, stats);
+    }
+
+    @Override
+    public void recordShadow(Method handlerMethod, long filteredNanos, long filteredBytes,
+                             long unfilteredNanos, long unfilteredBytes) {
+        HandlerMeters handlerMeters = handlerMethod != null
+                ? meters.computeIfAbsent(handlerMethod, method -> new HandlerMeters(registry, handlerName(method)))
+                : getUnknownMeters();
+        handlerMeters.getShadowMeters().record(filteredNanos, filteredBytes, unfilteredNanos, unfilteredBytes);
+    }
+
+    private HandlerMeters getUnknownMeters() {
+        HandlerMeters handlerMeters = unknownMeters;
+        if (handlerMeters == null) {
+            // 重复注册同名同标签的指标会返回已有实例，无需加锁
+            handlerMeters = new HandlerMeters(registry, UNKNOWN_HANDLER);
+            unknownMeters = handlerMeters;
+        }
+        return handlerMeters;
+    }
+
+    static String handlerName(Method method) {
+        return method.getDeclaringClass().getName() + "#" + method.getName();
+    }
+
+    /**
+     * 单个处理方法的指标
+     */
+    private static final class HandlerMeters {
+
+        private final MeterRegistry registry;
+        private final String handler;
+        private final Timer timer;
+        private final DistributionSummary size;
+        private final Counter beansFiltered;
+        private final Counter fieldsDropped;
+        private final Counter fieldsMasked;
+        private final Counter errors;
+
+        private volatile ShadowMeters shadowMeters;
+
+        HandlerMeters(MeterRegistry registry, String handler) {
+            this.registry = registry;
+            this.handler = handler;
+            this.timer = Timer.builder(METER_PREFIX + ".serialization")
+                    .description("Time spent writing filtered responses")
+                    .tag("handler", handler)
+                    .register(registry);
+            this.size = DistributionSummary.builder(METER_PREFIX + ".serialization.size")
+                    .description("Bytes written per filtered response")
+                    .baseUnit("bytes")
+                    .tag("handler", handler)
+                    .register(registry);
+            this.beansFiltered = counter(registry, "beans.filtered", "Beans written through a filter rule", handler);
+            this.fieldsDropped = counter(registry, "fields.dropped", "Properties left out by filter rules", handler);
+            this.fieldsMasked = counter(registry, "fields.masked", "Properties written masked", handler);
+            this.errors = counter(registry, "errors", "Properties that fell back to the default writer", handler);
+        }
+
+        private static Counter counter(MeterRegistry registry, String name, String description, String handler) {
+            return Counter.builder(METER_PREFIX + "." + name)
+                    .description(description)
+                    .tag("handler", handler)
+                    .register(registry);
+        }
+
+        void record(long nanos, long bytes, SerializationStats stats) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            size.record(bytes);
+            increment(beansFiltered, stats.getBeansFiltered());
+            increment(fieldsDropped, stats.getFieldsDropped());
+            increment(fieldsMasked, stats.getFieldsMasked());
+            increment(errors, stats.getFallbackErrors());
+        }
+
+        private static void increment(Counter counter, long amount) {
+            if (amount > 0) {
+                counter.increment(amount);
+            }
+        }
+
+        ShadowMeters getShadowMeters() {
+            ShadowMeters meters = shadowMeters;
+            if (meters == null) {
+                meters = new ShadowMeters(registry, handler);
+                shadowMeters = meters;
+            }
+            return meters;
+        }
+    }
+
+    /**
+     * 单个处理方法的影子测量指标
+     */
+    private static final class ShadowMeters {
+
+        private final Timer filteredTimer;
+        private final Timer unfilteredTimer;
+        private final DistributionSummary filteredSize;
+        private final DistributionSummary unfilteredSize;
+
+        ShadowMeters(MeterRegistry registry, String handler) {
+            this.filteredTimer = timer(registry, handler, "filtered");
+            this.unfilteredTimer = timer(registry, handler, "unfiltered");
+            this.filteredSize = size(registry, handler, "filtered");
+            this.unfilteredSize = size(registry, handler, "unfiltered");
+        }
+
+        private static Timer timer(MeterRegistry registry, String handler, String output) {
+            return Timer.builder(METER_PREFIX + ".shadow.serialization")
+                    .description("Time spent writing sampled responses with and without the view")
+                    .tag("handler", handler)
+                    .tag("output", output)
+                    .register(registry);
+        }
+
+        private static DistributionSummary size(MeterRegistry registry, String handler, String output) {
+            return DistributionSummary.builder(METER_PREFIX + ".shadow.size")
+                    .description("Bytes of sampled responses with and without the view")
+                    .baseUnit("bytes")
+                    .tag("handler", handler)
+                    .tag("output", output)
+                    .register(registry);
+        }
+
+        void record(long filteredNanos, long filteredBytes, long unfilteredNanos, long unfilteredBytes) {
+            filteredTimer.record(filteredNanos, TimeUnit.NANOSECONDS);
+            unfilteredTimer.record(unfilteredNanos, TimeUnit.NANOSECONDS);
+            filteredSize.record(filteredBytes);
+            unfilteredSize.record(unfilteredBytes);
+        }
+    }
+}